@@ -0,0 +1,72 @@
+package com.fullstack.backend_api.benchmark;
+
+import com.fullstack.backend_api.domain.BaseTimeEntity;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.service.JwtClaimsCache;
+import com.fullstack.backend_api.service.JwtService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 벤치마크 공통 픽스처
+ * - 운영 응답과 비슷한 크기의 엔티티를 만들고, JPA Auditing 이 채우는 시간 필드를 직접 주입합니다.
+ */
+final class BenchmarkFixtures {
+
+    // 운영 토큰과 같은 길이(256bit 이상)의 Base64 시크릿
+    static final String JWT_SECRET_KEY = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+    // 키 교체 전 서명 키 (검증 전용, kid "k1")
+    static final String PREVIOUS_JWT_SECRET_KEY = "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB=";
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    // 현재 키 kid "k2" 로 발급, 이전 키 kid "k1" 도 검증하는 (키 교체 직후와 같은) 토큰 엔진
+    static JwtService jwtService(JwtClaimsCache claimsCache) {
+        return new JwtService(JWT_SECRET_KEY, "k2", List.of("k1:" + PREVIOUS_JWT_SECRET_KEY),
+                Duration.ofHours(1), claimsCache);
+    }
+
+    static Member member(long id) {
+        return Member.builder()
+                .id(id)
+                .username("user" + id)
+                .password("{bcrypt}$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma")
+                .email("user" + id + "@example.com")
+                .role("ROLE_USER")
+                .build();
+    }
+
+    static Post post(long id, Member author) {
+        Post post = Post.builder()
+                .id(id)
+                .title("벤치마크 게시글 제목 " + id)
+                .content("게시글 본문입니다. ".repeat(20))
+                .author(author)
+                .build();
+        return audited(post);
+    }
+
+    static Comment comment(long id, Post post, Member author) {
+        Comment comment = Comment.builder()
+                .id(id)
+                .content("댓글 내용입니다. " + id)
+                .post(post)
+                .author(author)
+                .build();
+        return audited(comment);
+    }
+
+    private static <T extends BaseTimeEntity> T audited(T entity) {
+        ReflectionTestUtils.setField(entity, "createdAt", NOW);
+        ReflectionTestUtils.setField(entity, "modifiedAt", NOW);
+        return entity;
+    }
+}
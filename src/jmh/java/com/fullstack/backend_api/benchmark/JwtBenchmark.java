@@ -0,0 +1,73 @@
+package com.fullstack.backend_api.benchmark;
+
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.service.JwtClaimsCache;
+import com.fullstack.backend_api.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 요청마다 실행되는 JWT 발급/검증 경로 벤치마크
+ * - extractUsername: 클레임 캐시 적중(일반 요청) / 미적중(첫 요청) 두 경우를 분리 측정
+ * - extractUsernamePreviousKey: 키 교체 전 kid 로 서명된 토큰의 검증 (미적중, kid 로 미리 만든 키 선택)
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private JwtClaimsCache claimsCache;
+
+    private Member member;
+    private String serviceToken;
+    private String previousKeyToken;
+
+    @Setup
+    public void setUp() {
+        claimsCache = new JwtClaimsCache(10_000);
+        jwtService = BenchmarkFixtures.jwtService(claimsCache);
+
+        member = BenchmarkFixtures.member(1L);
+        serviceToken = jwtService.generateToken(member);
+        // 교체 전 키(kid k1)로 발급되었던 토큰
+        previousKeyToken = Jwts.builder()
+                .setHeaderParam("kid", "k1")
+                .setSubject(member.getUsername())
+                .claim("roles", List.of(member.getRole()))
+                .setExpiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000L))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(BenchmarkFixtures.PREVIOUS_JWT_SECRET_KEY)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(member);
+    }
+
+    @Benchmark
+    public String extractUsernameCached() {
+        return jwtService.extractUsername(serviceToken);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        // 캐시 무효화(토큰 다이제스트 계산) 비용이 함께 측정됩니다.
+        claimsCache.invalidate(serviceToken);
+        return jwtService.extractUsername(serviceToken);
+    }
+
+    @Benchmark
+    public String extractUsernamePreviousKey() {
+        claimsCache.invalidate(previousKeyToken);
+        return jwtService.extractUsername(previousKeyToken);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullstack.backend_api.benchmark;
+
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.AuthResponse;
+import com.fullstack.backend_api.service.JwtClaimsCache;
+import com.fullstack.backend_api.service.JwtService;
+import com.fullstack.backend_api.service.LoginService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 로그인 처리량 (BCrypt cost 별)
+ * - LoginService 로그인 스레드 풀(CPU 코어 수) 경유, 사용자 조회는 메모리(캐시 적중과 동일)
+ * - JMH 스레드 수 = CPU 코어 수 (풀이 포화된 상태에서 측정)
+ * ./gradlew jmh -Pjmh.includes=LoginBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "password123";
+
+    @Param({"8", "10", "12"})
+    private int cost;
+
+    private LoginService loginService;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        Member member = BenchmarkFixtures.member(1L);
+        member.changePassword(encoder.encode(PASSWORD));
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> member);
+        provider.setPasswordEncoder(encoder);
+
+        JwtService jwtService = BenchmarkFixtures.jwtService(new JwtClaimsCache(10_000));
+        int threads = Runtime.getRuntime().availableProcessors();
+        loginService = new LoginService(new ProviderManager(provider), jwtService, threads, threads, Duration.ofMinutes(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        loginService.shutdown();
+    }
+
+    @Benchmark
+    public AuthResponse login() {
+        return loginService.login("testuser", PASSWORD).join();
+    }
+}
@@ -0,0 +1,50 @@
+package com.fullstack.backend_api.benchmark;
+
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.dto.CommentResponseDto;
+import com.fullstack.backend_api.dto.PostResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 벤치마크 (목록 한 페이지 단위)
+ */
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private List<Post> posts;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        Member author = BenchmarkFixtures.member(1L);
+        posts = new ArrayList<>(pageSize);
+        comments = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            Post post = BenchmarkFixtures.post(i, author);
+            posts.add(post);
+            comments.add(BenchmarkFixtures.comment(i, post, author));
+        }
+    }
+
+    @Benchmark
+    public List<PostResponseDto> postResponseDto() {
+        return posts.stream().map(PostResponseDto::new).toList();
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> commentResponseDtoFrom() {
+        return comments.stream().map(CommentResponseDto::from).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.fullstack.backend_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.PostResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GET /api/posts 응답(Page<PostResponseDto>) 의 Jackson 직렬화 벤치마크
+ * - Spring Boot 기본 설정과 동일하게 JavaTimeModule 등록, 날짜는 ISO 문자열로 출력
+ */
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private Page<PostResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        Member author = BenchmarkFixtures.member(1L);
+        List<PostResponseDto> content = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            content.add(new PostResponseDto(BenchmarkFixtures.post(i, author)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "id")), 1_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
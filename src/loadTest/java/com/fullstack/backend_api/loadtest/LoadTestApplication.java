@@ -0,0 +1,38 @@
+package com.fullstack.backend_api.loadtest;
+
+import com.fullstack.backend_api.BackendApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트용 애플리케이션 기동
+ * - test 프로파일(H2, MySQL 모드) + 임의 포트로 실제 Tomcat 을 띄웁니다.
+ * - 요청 로그는 측정값을 왜곡하므로 끄고(느린 쿼리 경고만 남김), 테스트별 설정은 properties 로 덧붙입니다.
+ * - 프로파일 설정 파일(application-test.properties)보다 우선하도록 커맨드라인 인자로 전달합니다.
+ */
+final class LoadTestApplication {
+
+    private static final List<String> QUIET_PROPERTIES = List.of(
+            "server.port=0",
+            "logging.level.root=WARN",
+            "logging.level.org.springframework.web=WARN");
+
+    private LoadTestApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        List<String> merged = new ArrayList<>(QUIET_PROPERTIES);
+        merged.addAll(Arrays.asList(properties));
+        return new SpringApplicationBuilder(BackendApiApplication.class, SimulatedIoController.class)
+                .profiles("test")
+                .run(merged.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+}
@@ -0,0 +1,381 @@
+package com.fullstack.backend_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.service.CommentCountReconciler;
+import com.fullstack.backend_api.service.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 / 댓글 / 로그인 혼합 트래픽 부하 테스트 (MySQL 없이 H2 MySQL 모드)
+ * - 회원, 게시글, 댓글을 설정한 개수만큼 넣은 뒤 CONCURRENCY 개의 클라이언트가 MIX 비율로 요청을 반복합니다.
+ * - 작업별 처리량, 지연 백분위(HdrHistogram), 요청당 SQL 문 수(Hibernate Statistics)를 JSON 리포트로 남깁니다.
+ * - 요청당 SQL 문 수는 동시 요청이 섞이지 않도록 측정 구간 이후 작업별로 순차 실행하여 따로 계산합니다.
+ * - 실행: ./gradlew loadTest --tests '*MixedWorkloadLoadTest' -Dloadtest.concurrency=64 -Dloadtest.posts=5000
+ *         -Dloadtest.mix=post-page=40,post-detail=20,comment-page=25,comment-write=8,post-write=5,login=2
+ */
+@DisplayName("혼합 트래픽 부하 테스트 (H2)")
+class MixedWorkloadLoadTest {
+
+    private static final int MEMBERS = Integer.getInteger("loadtest.members", 100);
+    private static final int POSTS = Integer.getInteger("loadtest.posts", 1000);
+    private static final int COMMENTS_PER_POST = Integer.getInteger("loadtest.comments-per-post", 5);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT10S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT3S"));
+    private static final String MIX = System.getProperty("loadtest.mix",
+            "post-page=40,post-detail=20,comment-page=25,comment-write=8,post-write=5,login=2");
+    private static final int SQL_SAMPLES = Integer.getInteger("loadtest.sql-samples", 20);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/mixed-workload.json"));
+
+    private static final int PAGE_SIZE = 10;
+    private static final int SEED_BATCH = 500;
+    private static final String PASSWORD = "password123";
+
+    @Test
+    @DisplayName("혼합 트래픽 처리량 / 지연 / 요청당 SQL 리포트")
+    void mixedWorkload() throws Exception {
+        Operation[] wheel = parseMix(MIX);
+
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "server.tomcat.max-connections=" + (CONCURRENCY * 2));
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            Fixture fixture = seed(context);
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .build();
+
+            drive(http, clients, fixture, wheel, WARMUP);  // JIT / 커넥션 풀 / 캐시 예열
+
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            Map<Operation, Measurement> measurements = drive(http, clients, fixture, wheel, DURATION);
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            long statements = statistics.getPrepareStatementCount();
+
+            Map<Operation, Double> sqlPerRequest = measureSqlPerRequest(http, fixture, statistics, measurements.keySet());
+
+            Report report = Report.of(seconds, statements, measurements, sqlPerRequest);
+            report.print();
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+            System.out.println("[mixed-workload] report: " + REPORT.toAbsolutePath());
+
+            assertThat(report.errors()).isZero();
+        }
+    }
+
+    // "post-page=40,login=2" 형식의 비율을 룰렛 배열로 변환 (가중치 1 = 배열 한 칸)
+    private static Operation[] parseMix(String mix) {
+        List<Operation> wheel = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            Operation operation = Operation.of(pair[0].trim());
+            int weight = Integer.parseInt(pair[1].trim());
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        }
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 있는 작업이 없습니다 : " + mix);
+        }
+        return wheel.toArray(Operation[]::new);
+    }
+
+    // 회원 / 게시글 / 댓글 시드 데이터 생성 (비밀번호 해시는 한 번만 계산하여 재사용)
+    private static Fixture seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        JwtService jwtService = context.getBean(JwtService.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<Member> members = transaction.execute(status -> userRepository.saveAll(IntStream.range(0, MEMBERS)
+                .mapToObj(i -> Member.builder()
+                        .username("loaduser" + i)
+                        .password(encodedPassword)
+                        .email("loaduser" + i + "@example.com")
+                        .role("ROLE_USER")
+                        .build())
+                .toList()));
+
+        long[] postIds = new long[POSTS];
+        for (int from = 0; from < POSTS; from += SEED_BATCH) {
+            int start = from;
+            int end = Math.min(from + SEED_BATCH, POSTS);
+            transaction.executeWithoutResult(status -> {
+                List<Comment> comments = new ArrayList<>((end - start) * COMMENTS_PER_POST);
+                for (int i = start; i < end; i++) {
+                    Post post = postRepository.save(Post.builder()
+                            .title("부하 테스트 게시글 " + i)
+                            .content("부하 테스트 내용 " + i)
+                            .author(members.get(i % members.size()))
+                            .build());
+                    postIds[i] = post.getId();
+                    for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                        comments.add(Comment.builder()
+                                .content("부하 테스트 댓글 " + c)
+                                .post(post)
+                                .author(members.get((i + c + 1) % members.size()))
+                                .build());
+                    }
+                }
+                commentRepository.saveAll(comments);
+            });
+        }
+        context.getBean(CommentCountReconciler.class).reconcile();  // 시드 댓글은 카운터 UPDATE 를 거치지 않으므로 한 번에 맞춤
+
+        List<SeededMember> seeded = members.stream()
+                .map(member -> new SeededMember(member.getUsername(),
+                        jwtService.createToken(member.getUsername(), member.getId(), List.of(member.getRole()))))
+                .toList();
+        return new Fixture(LoadTestApplication.baseUrl(context), seeded, postIds);
+    }
+
+    // CONCURRENCY 개의 클라이언트가 duration 동안 룰렛에서 고른 작업을 반복 (closed-loop)
+    private static Map<Operation, Measurement> drive(HttpClient http, ExecutorService clients, Fixture fixture,
+                                                     Operation[] wheel, Duration duration) throws Exception {
+        Map<Operation, Measurement> measurements = new EnumMap<>(Operation.class);
+        for (Operation operation : wheel) {
+            measurements.computeIfAbsent(operation, key -> new Measurement());
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.add(clients.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = wheel[random.nextInt(wheel.length)];
+                    HttpRequest request = operation.request(fixture, random);
+                    Measurement measurement = measurements.get(operation);
+                    long begin = System.nanoTime();
+                    int status = send(http, request);
+                    measurement.record(request, status, (System.nanoTime() - begin) / 1_000);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        return measurements;
+    }
+
+    // 작업별로 순차 요청하여 요청당 실행된 SQL 문 수 계산 (동시 요청의 통계가 섞이지 않도록)
+    private static Map<Operation, Double> measureSqlPerRequest(HttpClient http, Fixture fixture, Statistics statistics,
+                                                               Iterable<Operation> operations) {
+        Map<Operation, Double> sqlPerRequest = new EnumMap<>(Operation.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (Operation operation : operations) {
+            statistics.clear();
+            for (int i = 0; i < SQL_SAMPLES; i++) {
+                send(http, operation.request(fixture, random));
+            }
+            sqlPerRequest.put(operation, statistics.getPrepareStatementCount() / (double) SQL_SAMPLES);
+        }
+        return sqlPerRequest;
+    }
+
+    private static int send(HttpClient http, HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private enum Operation {
+        POST_PAGE("post-page"),
+        POST_DETAIL("post-detail"),
+        COMMENT_PAGE("comment-page"),
+        COMMENT_WRITE("comment-write"),
+        POST_WRITE("post-write"),
+        LOGIN("login");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 부하 작업입니다 : " + key);
+        }
+
+        HttpRequest request(Fixture fixture, ThreadLocalRandom random) {
+            SeededMember member = fixture.members().get(random.nextInt(fixture.members().size()));
+            long postId = fixture.postIds()[random.nextInt(fixture.postIds().length)];
+            int pages = Math.max(1, fixture.postIds().length / PAGE_SIZE);
+            return switch (this) {
+                case POST_PAGE -> fixture.get("/api/posts?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE, member);
+                case POST_DETAIL -> fixture.get("/api/posts/" + postId, member);
+                case COMMENT_PAGE -> fixture.get("/api/posts/" + postId + "/comments?page=0&size=" + PAGE_SIZE, member);
+                case COMMENT_WRITE -> fixture.post("/api/posts/" + postId + "/comments", member,
+                        "{\"content\":\"부하 테스트 댓글\"}");
+                case POST_WRITE -> fixture.post("/api/posts", member,
+                        "{\"title\":\"부하 테스트 작성\",\"content\":\"부하 테스트 내용\"}");
+                case LOGIN -> fixture.post("/api/auth/login", null,
+                        "{\"username\":\"" + member.username() + "\",\"password\":\"" + PASSWORD + "\"}");
+            };
+        }
+    }
+
+    private record SeededMember(String username, String token) {
+    }
+
+    private record Fixture(String baseUrl, List<SeededMember> members, long[] postIds) {
+
+        HttpRequest get(String path, SeededMember member) {
+            return builder(path, member).GET().build();
+        }
+
+        HttpRequest post(String path, SeededMember member, String json) {
+            return builder(path, member)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder builder(String path, SeededMember member) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30));
+            return member == null ? builder : builder.header("X-AUTH-TOKEN", member.token());
+        }
+    }
+
+    // 작업별 지연(마이크로초) 기록, Recorder 는 여러 클라이언트 스레드에서 동시에 기록 가능
+    private static final class Measurement {
+
+        private final Recorder latencies = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final AtomicBoolean errorLogged = new AtomicBoolean();
+
+        void record(HttpRequest request, int status, long micros) {
+            latencies.recordValue(micros);
+            if (status < 200 || status >= 300) {
+                errors.increment();
+                if (errorLogged.compareAndSet(false, true)) {
+                    System.out.println("[mixed-workload] first error: HTTP " + status + " " + request.method() + " " + request.uri());
+                }
+            }
+        }
+    }
+
+    private record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(histogram.getMean() / 1e3,
+                    histogram.getValueAtPercentile(50) / 1e3,
+                    histogram.getValueAtPercentile(90) / 1e3,
+                    histogram.getValueAtPercentile(99) / 1e3,
+                    histogram.getValueAtPercentile(99.9) / 1e3,
+                    histogram.getMaxValue() / 1e3);
+        }
+    }
+
+    private record OperationReport(String operation, long requests, long errors, double throughput,
+                                   Latency latencyMs, double sqlStatementsPerRequest) {
+    }
+
+    private record Report(Map<String, Object> config, double durationSeconds, long requests, long errors,
+                          double throughput, double sqlStatementsPerRequest, Latency latencyMs,
+                          List<OperationReport> operations) {
+
+        static Report of(double seconds, long statements, Map<Operation, Measurement> measurements,
+                         Map<Operation, Double> sqlPerRequest) {
+            Histogram total = new Histogram(3);
+            List<OperationReport> operations = new ArrayList<>();
+            long errors = 0;
+            for (Map.Entry<Operation, Measurement> entry : measurements.entrySet()) {
+                Histogram histogram = entry.getValue().latencies.getIntervalHistogram();
+                long operationErrors = entry.getValue().errors.sum();
+                total.add(histogram);
+                errors += operationErrors;
+                operations.add(new OperationReport(entry.getKey().key, histogram.getTotalCount(), operationErrors,
+                        histogram.getTotalCount() / seconds, Latency.of(histogram), sqlPerRequest.get(entry.getKey())));
+            }
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("members", MEMBERS);
+            config.put("posts", POSTS);
+            config.put("commentsPerPost", COMMENTS_PER_POST);
+            config.put("concurrency", CONCURRENCY);
+            config.put("duration", DURATION.toString());
+            config.put("warmup", WARMUP.toString());
+            config.put("mix", MIX);
+            config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+            long requests = total.getTotalCount();
+            return new Report(config, seconds, requests, errors, requests / seconds,
+                    requests == 0 ? 0 : statements / (double) requests, Latency.of(total), operations);
+        }
+
+        void print() {
+            System.out.printf("%n[mixed-workload] %s%n", config);
+            System.out.printf("%-14s %9s %8s %9s %9s %9s %9s %9s %8s%n",
+                    "operation", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "sql/req");
+            for (OperationReport operation : operations) {
+                Latency latency = operation.latencyMs();
+                System.out.printf("%-14s %9d %8d %9.0f %9.1f %9.1f %9.1f %9.1f %8.1f%n", operation.operation(),
+                        operation.requests(), operation.errors(), operation.throughput(),
+                        latency.p50(), latency.p99(), latency.p999(), latency.max(), operation.sqlStatementsPerRequest());
+            }
+            System.out.printf("%-14s %9d %8d %9.0f %9.1f %9.1f %9.1f %9.1f %8.1f%n", "total", requests, errors, throughput,
+                    latencyMs.p50(), latencyMs.p99(), latencyMs.p999(), latencyMs.max(), sqlStatementsPerRequest);
+        }
+    }
+}
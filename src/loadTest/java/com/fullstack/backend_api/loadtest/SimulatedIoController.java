@@ -0,0 +1,19 @@
+package com.fullstack.backend_api.loadtest;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트 전용 엔드포인트: 외부 API / 느린 쿼리처럼 스레드를 블로킹하는 I/O 대기를 흉내 냅니다.
+ * (loadTest 소스셋에만 존재하며 애플리케이션 빌드에는 포함되지 않음)
+ */
+@RestController
+public class SimulatedIoController {
+
+    @GetMapping("/loadtest/io")
+    public String blockingIo(@RequestParam(defaultValue = "50") long latencyMs) throws InterruptedException {
+        Thread.sleep(latencyMs);
+        return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+    }
+}
@@ -0,0 +1,166 @@
+package com.fullstack.backend_api.loadtest;
+
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.service.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 / 플랫폼 스레드 풀 처리량 및 p99 지연 비교
+ * - 같은 애플리케이션을 spring.threads.virtual.enabled=true/false 로 각각 띄우고 동일한 부하를 줍니다.
+ * - 블로킹 I/O 엔드포인트(/loadtest/io)와 실제 DB 조회(GET /api/posts)를 측정합니다.
+ * - 실행: ./gradlew loadTest -Dloadtest.concurrency=1000 -Dloadtest.duration=PT15S -Dloadtest.io-latency-ms=50
+ */
+@DisplayName("스레드 모델 부하 비교 (가상 vs 플랫폼)")
+class ThreadModelLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 1000);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT10S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT3S"));
+    private static final long IO_LATENCY_MS = Long.getLong("loadtest.io-latency-ms", 50);
+    private static final int PLATFORM_MAX_THREADS = Integer.getInteger("loadtest.platform-threads", 200);
+
+    @Test
+    @DisplayName("높은 동시성에서 처리량 / p99 지연 비교")
+    void compareThreadModels() throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                String baseUrl = LoadTestApplication.baseUrl(context);
+                String token = seed(context);
+
+                results.add(run(virtual, "blocking-io", baseUrl + "/loadtest/io?latencyMs=" + IO_LATENCY_MS, token));
+                results.add(run(virtual, "db-page", baseUrl + "/api/posts?page=0&size=10", token));
+            }
+        }
+
+        System.out.printf("%n[thread-model] concurrency=%d, duration=%s, io-latency=%dms, platform threads=%d%n",
+                CONCURRENCY, DURATION, IO_LATENCY_MS, PLATFORM_MAX_THREADS);
+        System.out.printf("%-9s %-12s %10s %10s %10s %10s %8s%n", "threads", "workload", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        results.forEach(Result::print);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return LoadTestApplication.start(
+                "spring.threads.virtual.enabled=" + virtual,
+                "server.tomcat.threads.max=" + PLATFORM_MAX_THREADS,
+                "server.tomcat.max-connections=" + (CONCURRENCY * 2),
+                "server.tomcat.accept-count=" + CONCURRENCY);
+    }
+
+    // 측정용 게시글을 넣고 인증 토큰 발급
+    private static String seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        Member author = userRepository.findByUsername("testuser").orElseThrow();
+        for (int i = 0; i < 100; i++) {
+            postRepository.save(Post.builder().title("부하 테스트 " + i).content("내용 " + i).author(author).build());
+        }
+        return context.getBean(JwtService.class).createToken("testuser", null, List.of("ROLE_USER"));
+    }
+
+    private static Result run(boolean virtual, String workload, String url, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("X-AUTH-TOKEN", token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .build();
+
+            drive(http, request, clients, WARMUP);  // JIT / 커넥션 풀 예열
+            long startedAt = System.nanoTime();
+            Measurement measurement = drive(http, request, clients, DURATION);
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            return measurement.toResult(virtual ? "virtual" : "platform", workload, seconds);
+        }
+    }
+
+    // CONCURRENCY 개의 클라이언트가 duration 동안 요청을 반복 (closed-loop)
+    private static Measurement drive(HttpClient http, HttpRequest request, ExecutorService clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> workers = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200 && errors.getAndIncrement() == 0) {
+                            System.out.println("[thread-model] first error: HTTP " + response.statusCode() + " " + request.uri());
+                        }
+                    } catch (Exception e) {
+                        if (errors.getAndIncrement() == 0) {
+                            System.out.println("[thread-model] first error: " + e + " " + request.uri());
+                        }
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - begin;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> all = new ArrayList<>(CONCURRENCY);
+        for (Future<long[]> worker : workers) {
+            all.add(worker.get());
+        }
+        long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Measurement(merged, errors.get());
+    }
+
+    private record Measurement(long[] sortedLatencies, long errors) {
+
+        Result toResult(String threads, String workload, double seconds) {
+            return new Result(threads, workload, sortedLatencies.length / seconds,
+                    percentileMillis(0.50), percentileMillis(0.99),
+                    sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1] / 1e6, errors);
+        }
+
+        private double percentileMillis(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1e6;
+        }
+    }
+
+    private record Result(String threads, String workload, double throughput,
+                          double p50, double p99, double max, long errors) {
+
+        void print() {
+            System.out.printf("%-9s %-12s %10.0f %10.1f %10.1f %10.1f %8d%n", threads, workload, throughput, p50, p99, max, errors);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullstack.backend_api.config;
+
+import com.fullstack.backend_api.service.JwtClaimsCache;
+import com.fullstack.backend_api.service.MemberCache;
+import com.fullstack.backend_api.service.PostDetailCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Supplier;
+
+@Configuration
+@EnableCaching  // CacheManager 자동 구성 (spring.cache.* 설정 사용)
+public class CacheConfig {
+
+    /**
+     * 캐시 지표 등록 (/actuator/metrics)
+     * - postDetail 은 Spring Boot 가 cache.gets / cache.evictions 등을 자동 등록합니다.
+     * - 직접 만든 Caffeine 캐시(JWT 클레임, 사용자)도 같은 이름의 지표로 등록합니다.
+     * - 모든 캐시에 적중률 게이지(cache.hit.ratio)를 추가합니다.
+     */
+    @Bean
+    public MeterBinder localCacheMetrics(JwtClaimsCache jwtClaimsCache,
+                                         MemberCache memberCache,
+                                         PostDetailCache postDetailCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, jwtClaimsCache.getNativeCache(), "jwtClaims", "cache.manager", "local");
+            CaffeineCacheMetrics.monitor(registry, memberCache.getNativeCache(), "member", "cache.manager", "local");
+
+            bindHitRatio(registry, "jwtClaims", jwtClaimsCache::stats);
+            bindHitRatio(registry, "member", memberCache::stats);
+            bindHitRatio(registry, PostDetailCache.CACHE_NAME, postDetailCache::stats);
+        };
+    }
+
+    private static void bindHitRatio(MeterRegistry registry, String cacheName, Supplier<CacheStats> stats) {
+        Gauge.builder("cache.hit.ratio", stats, s -> s.get().hitRate())
+                .tags(Tags.of("cache", cacheName))
+                .description("캐시 적중률 (hit / request)")
+                .strongReference(true)  // 메서드 참조 객체가 GC 되지 않도록 유지
+                .register(registry);
+    }
+}
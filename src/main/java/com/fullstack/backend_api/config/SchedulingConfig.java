@@ -0,0 +1,9 @@
+package com.fullstack.backend_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling  // @Scheduled 백그라운드 작업 (첨부파일 블롭 GC 등)
+public class SchedulingConfig {
+}
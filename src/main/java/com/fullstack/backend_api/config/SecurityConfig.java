@@ -1,9 +1,11 @@
 package com.fullstack.backend_api.config;
 
 import com.fullstack.backend_api.filter.JwtAuthenticationFilter;
-import com.fullstack.backend_api.provider.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,13 +37,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
         // BCrypt는 가장 널리 사용되는 강력한 해시 함수
-        return new BCryptPasswordEncoder();
+        // 저장된 해시의 cost 가 strength 보다 낮으면 upgradeEncoding() 이 true (로그인 시 재해시 대상)
+        return new BCryptPasswordEncoder(strength);
     }
 
     // 이 매니저가 loadUserByUsername과 passwordEncoder를 사용하여 인증을 처리
@@ -53,6 +55,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 낮은 cost 의 해시를 현재 cost 로 다시 해시하여 저장
+        authenticationProvider.setUserDetailsPasswordService(userDetailsService);
 
         return new ProviderManager(authenticationProvider);
     }
@@ -69,21 +73,31 @@ public class SecurityConfig {
             // 0. 세션 관리를 하지 않도록 설정 (REST API는 Stateless)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authorize -> authorize
+                // 비동기 응답(StreamingResponseBody 등)의 ASYNC 재디스패치는 최초 요청에서 이미 인가되었으므로 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Swagger 관련 경로 추가
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
                 // 1. 인증(로그인) 및 조회 API는 누구나 접근 허용
                 .requestMatchers("/api/auth/**").permitAll()
 //                .requestMatchers(HttpMethod.GET, "/api/posts", "/api/posts/**").permitAll()  // GET 요청은 모두 허용
-                .requestMatchers(HttpMethod.GET, "/api/posts/**/comments").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/posts/*/comments").permitAll()  // "**" 뒤에는 패턴을 둘 수 없음 (PathPattern)
+                .requestMatchers(HttpMethod.GET, "/api/posts/*/comments/stream").permitAll()  // EventSource 는 인증 헤더를 보낼 수 없음
 
                 // 2. POST (등록) 및 PUT (수정) API는 ROLE_USER 권한부터 가능
                 // USER 와 ADMIN 모두 접근 가능
-                .requestMatchers(HttpMethod.POST, "/api/posts").hasRole("USER")
+                .requestMatchers(HttpMethod.POST, "/api/posts", "/api/posts/upload").hasRole("USER")
                 .requestMatchers(HttpMethod.PUT, "/api/posts/**").hasRole("USER")
 
                 // 3. DELETE (삭제) API는 ROLE_ADMIN 권한만 가능
                 .requestMatchers(HttpMethod.DELETE, "/api/posts/**").hasRole("ADMIN")
+                .requestMatchers("/api/moderation/**").hasRole("ADMIN")
+                .requestMatchers("/api/search/posts/rebuild").hasRole("ADMIN")
+
+                // 운영 지표: health 는 공개, 캐시/메트릭 정보는 ADMIN 만 조회
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                 // 4. 그 외 모든 요청은 인증된 사용자만 가능
                 .anyRequest().authenticated())
@@ -96,6 +110,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // JWT 필터는 @Component 이므로 서블릿 필터로도 자동 등록됨 -> Security 필터 체인에서만 실행되도록 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
         // Swagger 관련 경로를 Spring Security 필터 체인에서 완전히 제외
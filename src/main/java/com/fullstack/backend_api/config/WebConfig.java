@@ -1,12 +1,22 @@
 package com.fullstack.backend_api.config;
 
+import com.fullstack.backend_api.monitoring.EndpointMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration  // Spring 설정 파일임을 명시
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public WebConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")           // 1. "/api"로 시작하는 모든 요청에 대해 CORS 적용
@@ -15,4 +25,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")      // 모든 헤더 허용
                 .allowCredentials(true);  // 인증 정보(쿠키 등) 허용
     }
+
+    // API 엔드포인트별 지연 / SQL 지표 (MeterRegistry 가 없는 슬라이스 테스트에서는 등록하지 않음)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        meterRegistry.ifAvailable(meters -> registry.addInterceptor(new EndpointMetricsInterceptor(meters))
+                .addPathPatterns("/api/**"));
+    }
 }
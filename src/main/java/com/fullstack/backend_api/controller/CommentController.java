@@ -1,18 +1,29 @@
 package com.fullstack.backend_api.controller;
 
+import com.fullstack.backend_api.service.CommentBulkService;
 import com.fullstack.backend_api.service.CommentService;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.BulkCommentCreateRequest;
+import com.fullstack.backend_api.dto.BulkCommentDeleteRequest;
+import com.fullstack.backend_api.dto.BulkResultResponse;
 import com.fullstack.backend_api.dto.CommentCreateRequest;
 import com.fullstack.backend_api.dto.CommentUpdateRequest;
 import com.fullstack.backend_api.dto.CommentResponseDto;
+import com.fullstack.backend_api.dto.CursorSliceResponse;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -20,15 +31,21 @@ import java.util.stream.Collectors;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentBulkService commentBulkService;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, CommentBulkService commentBulkService) {
         this.commentService = commentService;
+        this.commentBulkService = commentBulkService;
     }
 
     /**
      * Helper: 현재 인증된 사용자의 ID와 Role을 가져오는 로직
      */
     private Long getCurrentUserId(Authentication authentication) {
+        // JWT 인증 시 Principal 은 Member (uid 클레임 또는 users 조회로 ID 가 채워짐)
+        if (authentication.getPrincipal() instanceof Member member && member.getId() != null) {
+            return member.getId();
+        }
         // Principal에서 ID를 Long 타입으로 변환 (Security 설정에 따라 달라질 수 있음)
         return Long.valueOf(authentication.getName());
     }
@@ -53,16 +70,46 @@ public class CommentController {
     }
 
     // --- 2. 댓글 목록 조회 (GET /api/posts/{postId}/comments) ---
+    // 댓글 추가/수정/삭제가 없었으면 (If-None-Match / If-Modified-Since) 목록 조회 없이 304 Not Modified
+    // ETag 에는 페이지 번호/크기/정렬도 포함되므로 다른 페이지의 ETag 로는 304 가 되지 않음
     @GetMapping("/posts/{postId}/comments")
     public ResponseEntity<Page<CommentResponseDto>> getCommentsByPostId(
             @PathVariable Long postId,
-            Pageable pageable) { // Spring Data JPA Pageable 자동 주입
+            Pageable pageable, // Spring Data JPA Pageable 자동 주입
+            WebRequest webRequest) {
+
+        Optional<ResourceVersion> version = commentService.getCommentsVersion(postId);
+        if (version.isPresent()
+                && webRequest.checkNotModified(version.get().eTag("comments", postId, pageable),
+                        version.get().lastModifiedMillis())) {
+            return null;  // 304 응답은 Spring MVC 가 처리
+        }
 
         Page<CommentResponseDto> responsePage = commentService.getCommentsByPostId(postId, pageable);
 
         return ResponseEntity.ok(responsePage);
     }
 
+    // --- 2-1. 댓글 목록 커서 기반 조회 (GET /api/posts/{postId}/comments/cursor?cursor=...&size=20) ---
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ResponseEntity<CursorSliceResponse<CommentResponseDto>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(commentService.getCommentsByCursor(postId, cursor, size));
+    }
+
+    // --- 2-2. 댓글 변경 실시간 구독 (GET /api/posts/{postId}/comments/stream, text/event-stream) ---
+    // 이벤트: comment-created / comment-updated / comment-deleted, 이어받을 수 없으면 reset (목록 다시 조회)
+    @GetMapping(path = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable Long postId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+
+        return commentService.subscribeComments(postId, lastEventId);
+    }
+
     // --- 3. 댓글 수정 (PUT /api/comments/{commentId}) ---
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<CommentResponseDto> updateComment(
@@ -91,4 +138,29 @@ public class CommentController {
 
         return ResponseEntity.noContent().build(); // 204 No Content 반환
     }
-}
\ No newline at end of file
+
+    // --- 5. 댓글 일괄 작성 (POST /api/comments/bulk) ---
+    // 항목별 결과(CREATED / INVALID / NOT_FOUND)를 요청 순서대로 반환
+    @PostMapping("/comments/bulk")
+    public ResponseEntity<BulkResultResponse> createComments(
+            @Valid @RequestBody BulkCommentCreateRequest request,
+            Authentication authentication) {
+
+        Long currentUserId = getCurrentUserId(authentication);
+
+        return ResponseEntity.ok(commentBulkService.createComments(request.getItems(), currentUserId));
+    }
+
+    // --- 6. 댓글 일괄 삭제 (POST /api/comments/bulk-delete) ---
+    // 항목별 결과(DELETED / NOT_FOUND / FORBIDDEN / INVALID)를 요청 순서대로 반환
+    @PostMapping("/comments/bulk-delete")
+    public ResponseEntity<BulkResultResponse> deleteComments(
+            @Valid @RequestBody BulkCommentDeleteRequest request,
+            Authentication authentication) {
+
+        Long currentUserId = getCurrentUserId(authentication);
+        Collection<String> roles = getCurrentUserRoles(authentication);
+
+        return ResponseEntity.ok(commentBulkService.deleteComments(request.getCommentIds(), currentUserId, roles));
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullstack.backend_api.controller;
+
+import com.fullstack.backend_api.dto.ModerationResult;
+import com.fullstack.backend_api.service.ModerationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * 모더레이션 일괄 삭제 API (ADMIN 전용, SecurityConfig 와 서비스에서 모두 확인)
+ */
+@RestController
+@RequestMapping("/api/moderation")
+public class ModerationController {
+
+    private final ModerationService moderationService;
+
+    public ModerationController(ModerationService moderationService) {
+        this.moderationService = moderationService;
+    }
+
+    private Collection<String> getCurrentUserRoles(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    // --- 1. 게시글과 댓글 전체 삭제 (DELETE /api/moderation/posts/{postId}) ---
+    @DeleteMapping("/posts/{postId}")
+    public ResponseEntity<ModerationResult> deletePost(
+            @PathVariable Long postId,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(moderationService.deletePost(postId, getCurrentUserRoles(authentication)));
+    }
+
+    // --- 2. 회원이 작성한 게시글/댓글 전체 삭제 (DELETE /api/moderation/members/{memberId}/content) ---
+    @DeleteMapping("/members/{memberId}/content")
+    public ResponseEntity<ModerationResult> deleteContentByAuthor(
+            @PathVariable Long memberId,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(moderationService.deleteContentByAuthor(memberId, getCurrentUserRoles(authentication)));
+    }
+}
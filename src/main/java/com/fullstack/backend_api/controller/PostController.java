@@ -1,18 +1,32 @@
 package com.fullstack.backend_api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fullstack.backend_api.dto.AttachmentInfo;
+import com.fullstack.backend_api.dto.CursorSliceResponse;
 import com.fullstack.backend_api.dto.PostRequestDto;
 import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import com.fullstack.backend_api.service.PostService;
+import com.fullstack.backend_api.storage.AttachmentSender;
+import com.fullstack.backend_api.storage.AttachmentStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;  // HTTP 상태 코드
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;  // Spring Web 어노테이션 (@RestController, @PostMapping 등)
 import org.springframework.beans.factory.annotation.Autowired;
 import com.fullstack.backend_api.domain.Member;
@@ -21,9 +35,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 @RestController  // 이 클래스가 REST API 컨트롤러임을 Spring에게 알림
 @RequiredArgsConstructor
@@ -31,6 +49,9 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentSender attachmentSender;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     private UserRepository userRepository;
@@ -68,11 +89,39 @@ public class PostController {
         };
     }
 
-    // Read: 게시글 조회
-    @GetMapping("/posts")
-    public List<PostResponseDto> getPosts() {
-        return postService.findAll();
+    // Read: 전체 게시글 내보내기 (스트리밍)
+    // - Accept: application/x-ndjson 이면 한 줄에 하나씩 NDJSON, 그 외에는 JSON 배열로 응답
+    // - 각 DTO 를 응답 스트림에 바로 기록하므로 행 수와 관계없이 힙 사용량이 일정합니다.
+    // - 클라이언트가 느리면 출력 스트림 쓰기가 블로킹되어 DB 커서 읽기도 함께 멈춥니다. (backpressure)
+    @GetMapping(value = "/posts", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getPosts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            // 건마다 flush 하지 않고 응답 버퍼가 찰 때마다 전송
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            if (ndjson) {
+                writer = writer.withRootValueSeparator("\n");
+            }
+            try (SequenceWriter sequence = writer.writeValues(outputStream).init(!ndjson)) {
+                postService.exportAll(post -> {
+                    try {
+                        sequence.write(post);
+                    } catch (IOException e) {
+                        // 클라이언트 연결 종료 등: 예외를 전파하여 DB 커서와 트랜잭션을 정리
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
     }
+
     @GetMapping
     public ResponseEntity<Page<PostResponseDto>> getPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -81,12 +130,40 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    // Read: 커서 기반 게시글 목록 조회 (GET /api/posts/cursor?cursor=...&size=10)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSliceResponse<PostResponseDto>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(postService.getPostsByCursor(cursor, size));
+    }
+
+    // Read: 게시글 단건 조회
+    // If-None-Match / If-Modified-Since 가 현재 버전과 같으면 본문 조회 없이 304 Not Modified
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long postId) {
+    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long postId, WebRequest webRequest) {
+        Optional<ResourceVersion> version = postService.getPostVersion(postId);
+        if (version.isPresent()
+                && webRequest.checkNotModified(version.get().eTag("post", postId), version.get().lastModifiedMillis())) {
+            return null;  // 304 응답은 Spring MVC 가 처리
+        }
+
         PostResponseDto post = postService.getPost(postId);
         return ResponseEntity.ok(post);
     }
 
+    // Read: 첨부파일 다운로드 (GET /api/posts/{postId}/attachment)
+    // Range(206) / ETag(304) 지원, 가능하면 sendfile 로 zero-copy 전송
+    @GetMapping("/{postId}/attachment")
+    public void downloadAttachment(@PathVariable Long postId,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        AttachmentInfo attachment = postService.getAttachment(postId);
+        attachmentSender.send(request, response, attachmentStorage.resolve(attachment.storedName()),
+                attachment.originalName(), attachment.sha256());
+    }
+
     // Create: 게시글 생성
     @PostMapping
     public ResponseEntity<PostResponseDto> createPost(
@@ -136,4 +213,26 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Create: 스트리밍 업로드 (POST /api/posts/upload?title=...&content=...)
+    // - 요청 본문 = 파일 원본 (application/octet-stream), 파일명은 X-File-Name 헤더 (URL 인코딩)
+    // - multipart 파싱/임시 버퍼 없이 본문을 저장소로 바로 기록
+    @PostMapping(value = "/upload", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<PostResponseDto> uploadPost(
+            @RequestParam String title,
+            @RequestParam String content,
+            @RequestHeader("X-File-Name") String encodedFileName,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        long contentLength = request.getContentLengthLong();
+        attachmentStorage.checkDeclaredSize(contentLength < 0 ? null : contentLength);
+
+        PostRequestDto requestDto = PostRequestDto.builder().title(title).content(content).build();
+        String fileName = URLDecoder.decode(encodedFileName, StandardCharsets.UTF_8);
+
+        PostResponseDto response = postService.createPostWithStream(
+                requestDto, userDetails.getUsername(), request.getInputStream(), fileName);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
 }
@@ -0,0 +1,51 @@
+package com.fullstack.backend_api.controller;
+
+import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.service.PostSearchService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 전문 검색 API
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final PostSearchService postSearchService;
+
+    public SearchController(PostSearchService postSearchService) {
+        this.postSearchService = postSearchService;
+    }
+
+    private Collection<String> getCurrentUserRoles(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    // --- 1. 게시글 검색 (GET /api/search/posts?q=검색어&page=0&size=10), 점수 순 ---
+    @GetMapping("/posts")
+    public ResponseEntity<Page<PostResponseDto>> searchPosts(
+            @RequestParam("q") String query,
+            @PageableDefault(size = 10) Pageable pageable) {
+
+        return ResponseEntity.ok(postSearchService.search(query, pageable));
+    }
+
+    // --- 2. 검색 색인 전체 재구성 (POST /api/search/posts/rebuild, ADMIN 전용) ---
+    @PostMapping("/posts/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuildIndex(Authentication authentication) {
+        long indexed = postSearchService.rebuild(getCurrentUserRoles(authentication));
+        return ResponseEntity.ok(Map.of("indexed", indexed));
+    }
+}
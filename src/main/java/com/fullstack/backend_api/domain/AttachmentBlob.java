@@ -0,0 +1,38 @@
+package com.fullstack.backend_api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(content-addressed) 첨부파일 블롭
+ * - 같은 내용(SHA-256)의 파일은 저장소에 한 번만 기록하고, 이를 참조하는 게시글 수를 refCount 로 관리합니다.
+ * - refCount 가 0 이 된 뒤 유예 시간이 지나면 AttachmentBlobCollector 가 행과 파일을 삭제합니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_attachment_blob_ref_released", columnList = "ref_count, released_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttachmentBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;  // SHA-256 (16진수)
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    private LocalDateTime releasedAt;  // 마지막으로 참조가 해제된 시각 (GC 유예 기준)
+
+    public AttachmentBlob(String hash, long size) {
+        this.hash = hash;
+        this.size = size;
+        this.refCount = 1;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.*;
 
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_post_created_at_id", columnList = "post_id, created_at, id"))  // 커서 페이지네이션용
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -12,8 +13,11 @@ import lombok.*;
 @ToString(exclude = {"post", "author"})
 public class Comment extends BaseTimeEntity {
 
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC batch 가 꺼지므로, 50개씩 미리 할당하는 pooled 시퀀스 사용
+    // (MySQL 처럼 시퀀스가 없는 DB 에서는 Hibernate 가 comment_seq 테이블로 대신 관리)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 500)
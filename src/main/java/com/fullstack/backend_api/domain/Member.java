@@ -1,5 +1,6 @@
 package com.fullstack.backend_api.domain;
 
+import com.fullstack.backend_api.service.MemberCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
@@ -11,6 +12,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(MemberCacheEvictionListener.class)  // 회원 정보 변경/삭제 시 인증 캐시 무효화
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA 모범 사례
@@ -33,6 +35,11 @@ public class Member implements UserDetails {
     @Column(nullable = false)
     private String role;
 
+    // 비밀번호 변경 (인코딩된 값을 전달해야 함)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     // --------------------------------------
     // UserDetails 인터페이스 구현
     // --------------------------------------
@@ -0,0 +1,73 @@
+package com.fullstack.backend_api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ * - 게시글/댓글 변경과 같은 트랜잭션에서 INSERT 되므로, 변경이 커밋되면 이벤트도 반드시 남고 롤백되면 함께 사라집니다.
+ * - OutboxDispatcher 가 주기적으로 읽어 핸들러에 전달하고, 성공하면 행을 삭제합니다. (at-least-once)
+ * - 이벤트는 변경 대상 ID 만 담으며, 핸들러는 처리 시점의 최신 상태를 다시 조회하므로 순서가 뒤바뀌거나 중복 전달되어도 결과가 같습니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class OutboxEvent {
+
+    public enum Type {
+        POST_CREATED, POST_UPDATED, POST_DELETED,
+        COMMENT_CREATED, COMMENT_UPDATED, COMMENT_DELETED
+    }
+
+    public enum Status {
+        PENDING,  // 전달 대기 (재시도 포함)
+        FAILED    // 최대 시도 횟수 초과, 더 이상 전달하지 않음 (운영자 확인용)
+    }
+
+    // 일괄 작성 시 이벤트 INSERT 도 JDBC batch 로 묶이도록 pooled 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Type type;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    private Long commentId;  // 댓글 이벤트일 때만
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public OutboxEvent(Type type, Long postId, Long commentId, LocalDateTime now) {
+        this.type = type;
+        this.postId = postId;
+        this.commentId = commentId;
+        this.status = Status.PENDING;
+        this.createdAt = now;
+        this.nextAttemptAt = now;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity              // 이 클래스가 데이터베이스 테이블임을 명시
+@Table(indexes = @Index(name = "idx_post_created_at_id", columnList = "created_at, id"))  // 커서 페이지네이션용
 @Getter
 @Builder             // 객체 생성을 깔끔하게 해주는 패턴
 @NoArgsConstructor(access = AccessLevel.PROTECTED)   // JPA 사용을 위한 기본 생성자 필수
@@ -22,8 +23,22 @@ public class Post extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT", nullable = false)  // 본문은 TEXT 타입으로 지정
     private String content;
     
-    private String fileName;  // 저장된 파일명
-    private String filePath;  // 저장된 파일 경로
+    private String fileName;  // 첨부파일 원본 파일명
+    private String filePath;  // 저장된 파일 경로 (저장소 기준 파일명)
+
+    @Column(length = 64)
+    private String fileHash;  // 첨부파일 내용의 SHA-256 (16진수)
+
+    private Long fileSize;    // 첨부파일 크기 (bytes)
+
+    // 댓글 수 (비정규화), 원자적 UPDATE(PostRepository.increment/decrementCommentCount)로만 변경
+    // updatable = false: 게시글 수정 시 dirty checking 이 오래된 값으로 덮어쓰지 않도록 함
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    // 조회수, ViewCountAggregator 가 메모리에 누적한 증가분을 주기적으로 일괄 UPDATE (근사값)
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
 
     // 🤝 N:1 관계: 작성자 (User) 매핑
     // Post는 한 명의 User에 의해 작성된다.
@@ -49,4 +64,10 @@ public class Post extends BaseTimeEntity {
         this.fileName = fileName;
         this.filePath = filePath;
     }
+
+    public void updateFile(String fileName, String filePath, String fileHash, long fileSize) {
+        updateFile(fileName, filePath);
+        this.fileHash = fileHash;
+        this.fileSize = fileSize;
+    }
 }
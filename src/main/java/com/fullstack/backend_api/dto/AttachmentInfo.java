@@ -0,0 +1,11 @@
+package com.fullstack.backend_api.dto;
+
+/**
+ * 게시글 첨부파일 다운로드 정보 (본문 없이 첨부파일 컬럼만 조회)
+ *
+ * @param storedName   저장소 기준 파일명 (Post.filePath)
+ * @param originalName 원본 파일명 (Content-Disposition 용)
+ * @param sha256       내용 해시 (ETag 용, 이전 방식으로 저장된 파일은 null)
+ */
+public record AttachmentInfo(String storedName, String originalName, String sha256) {
+}
@@ -0,0 +1,29 @@
+package com.fullstack.backend_api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 댓글 일괄 작성 요청 (마이그레이션/운영 도구용)
+ * 항목별 검증 결과는 BulkResultResponse 로 돌려주므로 항목 단위 @Valid 는 걸지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCommentCreateRequest {
+
+    @NotEmpty(message = "작성할 댓글이 없습니다.")
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long postId;    // 댓글이 달릴 게시글 ID
+        private String content; // 댓글 내용 (1자 이상 500자 이하)
+    }
+}
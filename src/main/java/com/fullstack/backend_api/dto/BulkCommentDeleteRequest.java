@@ -0,0 +1,20 @@
+package com.fullstack.backend_api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 댓글 일괄 삭제 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCommentDeleteRequest {
+
+    @NotEmpty(message = "삭제할 댓글 ID 가 없습니다.")
+    private List<Long> commentIds;
+}
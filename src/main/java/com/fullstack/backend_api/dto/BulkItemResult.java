@@ -0,0 +1,28 @@
+package com.fullstack.backend_api.dto;
+
+/**
+ * 일괄 처리 요청의 항목별 결과
+ *
+ * @param index   요청 목록에서의 위치 (0부터)
+ * @param id      처리된 리소스 ID (작성 실패 시 null)
+ * @param status  처리 결과
+ * @param message 실패 사유 (성공 시 null)
+ */
+public record BulkItemResult(int index, Long id, Status status, String message) {
+
+    public enum Status {
+        CREATED, DELETED, INVALID, NOT_FOUND, FORBIDDEN;
+
+        public boolean isSuccess() {
+            return this == CREATED || this == DELETED;
+        }
+    }
+
+    public static BulkItemResult success(int index, Long id, Status status) {
+        return new BulkItemResult(index, id, status, null);
+    }
+
+    public static BulkItemResult failure(int index, Long id, Status status, String message) {
+        return new BulkItemResult(index, id, status, message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullstack.backend_api.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 처리 응답 (성공/실패 건수 + 요청 순서대로의 항목별 결과)
+ */
+public record BulkResultResponse(int succeeded, int failed, List<BulkItemResult> results) {
+
+    public static BulkResultResponse of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(result -> result.status().isSuccess()).count();
+        return new BulkResultResponse(succeeded, results.size() - succeeded, results);
+    }
+}
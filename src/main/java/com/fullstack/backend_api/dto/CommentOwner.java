@@ -0,0 +1,11 @@
+package com.fullstack.backend_api.dto;
+
+/**
+ * 권한 검사용 댓글 소유 정보 (엔티티를 로드하지 않고 ID 만 조회)
+ *
+ * @param commentId 댓글 ID
+ * @param postId    댓글이 속한 게시글 ID
+ * @param authorId  댓글 작성자 ID
+ */
+public record CommentOwner(Long commentId, Long postId, Long authorId) {
+}
@@ -0,0 +1,33 @@
+package com.fullstack.backend_api.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (전체 개수 없이 다음 페이지 존재 여부와 다음 커서만 제공)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CursorSliceResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;  // 마지막 페이지이면 null
+
+    /**
+     * @param slice 조회 결과
+     * @param cursorOf 마지막 요소로부터 다음 커서를 만드는 함수
+     */
+    public static <T> CursorSliceResponse<T> of(Slice<T> slice, Function<T, KeysetCursor> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = (slice.hasNext() && !content.isEmpty())
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorSliceResponse<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+}
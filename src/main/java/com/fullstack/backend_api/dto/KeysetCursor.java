@@ -0,0 +1,38 @@
+package com.fullstack.backend_api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션의 위치 정보 (createdAt, id)
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩한 불투명(opaque) 토큰으로만 노출합니다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 클라이언트가 전달한 커서 토큰 (null 또는 빈 값이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지 요청이면 null
+     * @throws IllegalStateException 형식이 잘못된 토큰 (400 Bad Request 로 처리됨)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalStateException("유효하지 않은 커서입니다.");
+        }
+    }
+}
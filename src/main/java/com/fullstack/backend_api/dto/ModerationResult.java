@@ -0,0 +1,10 @@
+package com.fullstack.backend_api.dto;
+
+/**
+ * 모더레이션 일괄 삭제 결과
+ *
+ * @param deletedPosts    삭제된 게시글 수
+ * @param deletedComments 삭제된 댓글 수 (삭제된 게시글에 달려 있던 댓글 포함)
+ */
+public record ModerationResult(long deletedPosts, long deletedComments) {
+}
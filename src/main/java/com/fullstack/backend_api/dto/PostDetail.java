@@ -0,0 +1,18 @@
+package com.fullstack.backend_api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 캐시 적재용 조회 결과 (응답 DTO + 조건부 GET 버전 판단용 수정 시각, 한 번의 SQL 로 조회)
+ *
+ * @param post       응답 DTO
+ * @param modifiedAt 게시글 수정 시각 (ETag / Last-Modified 계산용)
+ */
+public record PostDetail(PostResponseDto post, LocalDateTime modifiedAt) {
+
+    // JPQL 생성자 표현식용
+    public PostDetail(Long id, String title, String content, String author, LocalDateTime createdAt,
+                      long commentCount, long viewCount, LocalDateTime modifiedAt) {
+        this(new PostResponseDto(id, title, content, author, createdAt, commentCount, viewCount), modifiedAt);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullstack.backend_api.dto;
+
+/**
+ * 권한 검사용 게시글 소유 정보 (게시글/작성자 엔티티를 로드하지 않고 한 번의 SQL 로 조회)
+ *
+ * @param postId         게시글 ID
+ * @param authorId       작성자 ID
+ * @param authorUsername 작성자 username (PostService 의 권한 비교 기준)
+ * @param fileHash       첨부파일 블롭 해시 (없으면 null, 삭제 시 참조 해제용)
+ */
+public record PostOwner(Long postId, Long authorId, String authorUsername, String fileHash) {
+
+    public boolean isAuthor(String username) {
+        return authorUsername != null && authorUsername.equals(username);
+    }
+}
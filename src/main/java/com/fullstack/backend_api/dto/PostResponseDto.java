@@ -20,6 +20,8 @@ public class PostResponseDto {
     private String content;
     private String author;
     private LocalDateTime createdAt;
+    private long commentCount;  // 댓글 수 (Post.commentCount, 목록 조회 시 추가 쿼리 없음)
+    private long viewCount;     // 조회수 (주기적으로 반영되는 근사값, 상세 캐시 만료 전까지 이전 값일 수 있음)
 
     public PostResponseDto(Post post) {
         this.id = post.getId();
@@ -27,5 +29,7 @@ public class PostResponseDto {
         this.content = post.getContent();
         this.author = (post.getAuthor() != null) ? post.getAuthor().getUsername() : null;
         this.createdAt = post.getCreatedAt();
+        this.commentCount = post.getCommentCount();
+        this.viewCount = post.getViewCount();
     }
 }
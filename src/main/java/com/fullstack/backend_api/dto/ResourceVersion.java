@@ -0,0 +1,55 @@
+package com.fullstack.backend_api.dto;
+
+import org.springframework.data.domain.Pageable;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단용 버전 정보
+ * 본문(content) 없이 수정 시각과 건수만 조회하여 만듭니다.
+ *
+ * @param lastModifiedAt 마지막 수정 시각 (대상이 없으면 null)
+ * @param count          버전에 포함할 건수 (삭제처럼 수정 시각만으로 드러나지 않는 변경 감지용)
+ */
+public record ResourceVersion(LocalDateTime lastModifiedAt, Long count) {
+
+    /**
+     * 약한(weak) ETag, 예: W/"post-1-1718000000123456-0"
+     * 수정 시각은 마이크로초 단위로 포함하여 같은 초 안의 연속 수정도 구분합니다.
+     */
+    public String eTag(String resource, Long id) {
+        long micros = (lastModifiedAt == null) ? 0L
+                : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModifiedAt);
+        return "W/\"" + resource + "-" + id + "-" + micros + "-" + (count == null ? 0L : count) + "\"";
+    }
+
+    /**
+     * 페이지 목록용 약한 ETag, 예: W/"comments-1-1718000000123456-3-p0-s20-createdAt%3ADESC"
+     * 같은 버전이라도 페이지 번호/크기/정렬이 다르면 본문이 다르므로 함께 포함합니다.
+     * (정렬 속성명은 요청 값이므로 ETag 에 쓸 수 없는 문자가 없도록 URL 인코딩)
+     */
+    public String eTag(String resource, Long id, Pageable pageable) {
+        String page = pageable.isUnpaged() ? "unpaged"
+                : "p" + pageable.getPageNumber() + "-s" + pageable.getPageSize();
+        StringBuilder sort = new StringBuilder();
+        pageable.getSort().forEach(order -> {
+            if (!sort.isEmpty()) {
+                sort.append(',');
+            }
+            sort.append(order.getProperty()).append(':').append(order.getDirection());
+        });
+        String base = eTag(resource, id);
+        return base.substring(0, base.length() - 1) + "-" + page
+                + "-" + URLEncoder.encode(sort.toString(), StandardCharsets.UTF_8) + "\"";
+    }
+
+    // Last-Modified 헤더 값 (epoch millis, 수정 시각이 없으면 -1 로 헤더 생략)
+    public long lastModifiedMillis() {
+        return (lastModifiedAt == null) ? -1L
+                : lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
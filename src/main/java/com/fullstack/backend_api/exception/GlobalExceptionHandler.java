@@ -2,6 +2,7 @@ package com.fullstack.backend_api.exception;
 
 import com.fullstack.backend_api.dto.ErrorResponse;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -89,12 +90,33 @@ public class GlobalExceptionHandler {
     }
 
      // (선택) 404 Not Found 처리 (ResourceNotFoundException)
+     // SSE 구독 요청(Accept: text/event-stream)에도 JSON 오류 본문을 쓸 수 있도록 Content-Type 을 지정
      @ExceptionHandler(ResourceNotFoundException.class)
      public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException e) {
          ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), "Forbidden");
-         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND); // 404 반환
+         return ResponseEntity.status(HttpStatus.NOT_FOUND) // 404 반환
+                 .contentType(MediaType.APPLICATION_JSON)
+                 .body(errorResponse);
      }
 
+    // 413 Payload Too Large 처리 (첨부파일 크기 제한 초과)
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handlePayloadTooLargeException(PayloadTooLargeException e) {
+        HttpStatus status = HttpStatus.PAYLOAD_TOO_LARGE;
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), status.getReasonPhrase());
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    // 503 Service Unavailable 처리 (동시 처리 한도 초과, 잠시 후 재시도)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), status.getReasonPhrase());
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
+    }
+
     // ... (다른 예외 처리 로직)
 
 }
@@ -0,0 +1,9 @@
+package com.fullstack.backend_api.exception;
+
+// 업로드 크기 제한 초과 (GlobalExceptionHandler 에서 413 Payload Too Large 로 처리)
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(long maxBytes) {
+        super(String.format("업로드 가능한 최대 크기(%d bytes)를 초과했습니다.", maxBytes));
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullstack.backend_api.exception;
+
+// 일시적인 용량 초과 (GlobalExceptionHandler 에서 503 Service Unavailable 로 처리, 잠시 후 재시도 가능)
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
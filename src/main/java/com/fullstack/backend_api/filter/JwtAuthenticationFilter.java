@@ -1,59 +1,86 @@
-package com.fullstack.backend_api.filter; // 💡 사용자님의 실제 패키지 경로로 변경
+package com.fullstack.backend_api.filter;
 
-import com.fullstack.backend_api.provider.JwtTokenProvider; // 💡 사용자님의 실제 패키지 경로로 변경
+import com.fullstack.backend_api.service.JwtService;
+import com.fullstack.backend_api.service.PostUserDetailsService;
+import com.fullstack.backend_api.service.TokenClaims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
+/**
+ * JWT 인증 필터 (Security 필터 체인에만 등록, SecurityConfig 참고)
+ * - 토큰은 "Authorization: Bearer <토큰>" 또는 "X-AUTH-TOKEN: <토큰>" 헤더에서 읽습니다.
+ * - 검증은 JwtService 한 곳에서 처리합니다. (서명 키 선택, 클레임 캐시)
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘기고, 인가 단계에서 거부됩니다.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String AUTH_TOKEN_HEADER = "X-AUTH-TOKEN";
 
-    // 💡 Swagger 및 permitAll() 경로에 대해서는 토큰 검사를 스킵할 경로 목록을 정의합니다.
-//    private static final List<String> EXCLUDE_URLS = List.of(
-//            "/api/auth/login",
-//            "/api/posts",
-//            "/v3/api-docs",
-//            "/swagger-ui"
-//    );
+    private final JwtService jwtService;
+    private final PostUserDetailsService userDetailsService;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(JwtService jwtService, PostUserDetailsService userDetailsService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String requestUri = request.getRequestURI();
+        // 1. HTTP 요청 헤더에서 JWT 토큰을 추출합니다.
+        String token = resolveToken(request);
 
-        // 1. Swagger 및 permitAll() 경로에 대해서는 토큰 검사를 스킵합니다.
-        // 경로에 EXCLUDE_URLS 목록의 문자열이 포함되면 필터 체인 통과 후 즉시 리턴
-//        if (EXCLUDE_URLS.stream().anyMatch(requestUri::contains)) {
-//            filterChain.doFilter(request, response);
-//            return;
-//        }
+        // 2. 아직 SecurityContext 에 인증 정보가 없을 때만 토큰으로 인증
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(token, request);
+        }
+
+        filterChain.doFilter(request, response);
+    }
 
-        // 2. HTTP 요청 헤더에서 JWT 토큰을 추출합니다.
-        String token = jwtTokenProvider.resolveToken(request);
+    private void authenticate(String token, HttpServletRequest request) {
+        try {
+            // 서명/만료 검증 (캐시 적중 시 파싱 생략)
+            TokenClaims claims = jwtService.extractAllClaims(token);
 
-        // 3. 토큰 유효성 검증
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 토큰이 유효하면, 토큰으로부터 인증 객체(Authentication)를 생성합니다.
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            // SecurityContext에 인증 객체를 설정하여 인증을 완료합니다.
+            // stateless 모드에서는 클레임만으로, 그 외에는 캐시된 사용자 정보로 Principal 구성
+            UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
+            if (!jwtService.validationToken(claims, userDetails)) {
+                return;
+            }
+
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
+            authentication.setDetails(detailsSource.buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            // 토큰 만료, 서명 오류, 삭제된 사용자 등: 인증하지 않고 진행
+            logger.debug("JWT 인증 실패: " + e.getMessage());
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private String resolveToken(HttpServletRequest request) {
+        String authorization = request.getHeader(AUTHORIZATION_HEADER);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        return request.getHeader(AUTH_TOKEN_HEADER);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.fullstack.backend_api.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 처리 시간 / SQL 문 수 / SQL 실행 시간 / 커넥션 대기 시간 지표
+ * - endpoint 태그: "PostController.getPost" 형식 (/actuator/metrics/http.endpoint.latency?tag=endpoint:...)
+ * - 미터는 핸들러 메서드마다 한 번만 만들어 캐시하고, 요청마다 태그/미터를 새로 조회하지 않습니다.
+ * - 보안 필터(JWT 검증) 이후 컨트롤러 진입부터 응답 완료까지를 측정합니다.
+ * - 요청별 카운터(RequestJdbcStats)는 요청 속성에 두고 작은 풀에서 재사용합니다. (ThreadLocal / 요청마다 할당 없음)
+ * - 비동기 응답(로그인, 스트리밍 내보내기)은 최초 요청의 카운터를 ASYNC 재디스패치까지 유지하여
+ *   재디스패치 완료 시점에 기록합니다. (처리 시간은 대기열/비동기 처리 시간을 포함한 전체 시간)
+ *   SQL 은 요청이 바인딩된 스레드에서 실행된 것만 집계됩니다. StreamingResponseBody 는 Spring MVC 가
+ *   작업 스레드에 요청을 바인딩하므로 포함되고, CompletableFuture 를 반환하는 로그인은 login- 스레드 풀에서
+ *   실행된 사용자 조회/재해시 SQL 이 포함되지 않습니다. (해당 SQL 은 쿼리 로그로 확인)
+ */
+public class EndpointMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    // 동시에 측정 중인 요청 수가 이보다 많으면 넘치는 만큼만 새로 할당
+    private static final int STATS_POOL_SIZE = 256;
+
+    private final MeterRegistry registry;
+    private final RequestJdbcStats.Pool statsPool = new RequestJdbcStats.Pool(STATS_POOL_SIZE);
+    private final Map<Method, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public EndpointMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(RequestJdbcStats.ATTRIBUTE, statsPool.acquire());
+        }
+        return true;
+    }
+
+    // 비동기 전환 시(afterConcurrentHandlingStarted)에는 카운터를 떼지 않고 ASYNC 재디스패치의 afterCompletion 에서 기록
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        RequestJdbcStats stats = detach(request);
+        if (stats != null) {
+            metersFor(handlerMethod).record(stats, System.nanoTime());
+            // 비동기 요청의 카운터는 시간 초과 등으로 아직 작업 스레드가 참조할 수 있으므로 풀에 반납하지 않음
+            if (request.getDispatcherType() != DispatcherType.ASYNC) {
+                statsPool.release(stats);
+            }
+        }
+    }
+
+    // 요청에서 카운터를 떼어 이후 SQL 이 기록되지 않도록 함 (측정 중이 아니면 null)
+    private static RequestJdbcStats detach(HttpServletRequest request) {
+        Object stats = request.getAttribute(RequestJdbcStats.ATTRIBUTE);
+        if (stats == null) {
+            return null;
+        }
+        request.removeAttribute(RequestJdbcStats.ATTRIBUTE);
+        return (RequestJdbcStats) stats;
+    }
+
+    private EndpointMeters metersFor(HandlerMethod handlerMethod) {
+        EndpointMeters endpointMeters = meters.get(handlerMethod.getMethod());
+        if (endpointMeters == null) {
+            String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            endpointMeters = meters.computeIfAbsent(handlerMethod.getMethod(), method -> EndpointMeters.register(registry, endpoint));
+        }
+        return endpointMeters;
+    }
+
+    private record EndpointMeters(Timer latency, DistributionSummary statements, Timer statementTime, Timer connectionWait) {
+
+        static EndpointMeters register(MeterRegistry registry, String endpoint) {
+            return new EndpointMeters(
+                    Timer.builder("http.endpoint.latency")
+                            .description("컨트롤러 메서드 처리 시간")
+                            .tag("endpoint", endpoint)
+                            .register(registry),
+                    DistributionSummary.builder("http.endpoint.jdbc.statements")
+                            .description("요청당 실행한 SQL 문 수")
+                            .baseUnit("statements")
+                            .tag("endpoint", endpoint)
+                            .register(registry),
+                    Timer.builder("http.endpoint.jdbc.time")
+                            .description("요청당 SQL 실행 시간 합계")
+                            .tag("endpoint", endpoint)
+                            .register(registry),
+                    Timer.builder("http.endpoint.connection.wait")
+                            .description("요청당 커넥션 풀 대기 시간 합계")
+                            .tag("endpoint", endpoint)
+                            .register(registry));
+        }
+
+        void record(RequestJdbcStats stats, long endNanos) {
+            latency.record(endNanos - stats.startNanos(), TimeUnit.NANOSECONDS);
+            statements.record(stats.statements());
+            statementTime.record(stats.statementNanos(), TimeUnit.NANOSECONDS);
+            connectionWait.record(stats.connectionWaitNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
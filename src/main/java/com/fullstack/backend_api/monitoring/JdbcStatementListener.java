@@ -0,0 +1,53 @@
+package com.fullstack.backend_api.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 SQL 실행 / 커넥션 획득 시간을 측정하여 현재 요청의 {@link RequestJdbcStats} 에 누적
+ * - SQL 실행 시간은 쿼리 로그({@link QueryLogger})의 느린 쿼리 판단에도 사용됩니다.
+ * - hibernate.session.events.auto 설정으로 세션마다 생성됩니다. (Spring 빈 아님)
+ * - JPA 를 거치지 않는 JdbcTemplate 호출은 집계되지 않습니다.
+ * - 요청 스레드에서 실행된 SQL 만 집계됩니다. (현재 요청은 RequestContextHolder 로 찾음)
+ */
+public class JdbcStatementListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+    private long acquisitionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementExecuted(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statementExecuted(System.nanoTime() - batchStart);
+    }
+
+    private static void statementExecuted(long nanos) {
+        RequestJdbcStats.recordStatement(nanos);
+        QueryLogger.statementExecuted(nanos);
+    }
+
+    // 커넥션 풀(HikariCP)에서 커넥션을 얻기까지 기다린 시간
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestJdbcStats.recordConnectionWait(System.nanoTime() - acquisitionStart);
+    }
+}
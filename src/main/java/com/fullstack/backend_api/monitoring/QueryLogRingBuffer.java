@@ -0,0 +1,71 @@
+package com.fullstack.backend_api.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 요청 스레드가 쓰고 하나의 백그라운드 스레드가 읽는 고정 크기 링 버퍼 (락 없음)
+ * - 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 로 자리를 잡고, 값을 쓴 뒤 시퀀스로 공개합니다.
+ * - 가득 차면 기다리지 않고 false 를 반환하므로 요청 스레드가 로깅 때문에 막히지 않습니다.
+ */
+final class QueryLogRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLong head = new AtomicLong();  // 다음에 쓸 위치 (생산자 공유)
+    private long tail;                                  // 다음에 읽을 위치 (소비자 전용)
+
+    QueryLogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상이어야 합니다 : " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;  // 2의 거듭제곱으로 올림
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 생산자: 빈 슬롯이 없으면 false (호출 측에서 버린 건수를 집계)
+    boolean offer(E element) {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);  // 소비자에게 공개
+                    return true;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return false;  // 한 바퀴 전 항목을 아직 소비하지 않음 (가득 참)
+            } else {
+                position = head.get();  // 다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    // 소비자(단일 스레드): 비어 있거나 아직 공개되지 않았으면 null
+    E poll() {
+        int index = (int) (tail & mask);
+        if (sequences.get(index) != tail + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, tail + capacity);  // 다음 바퀴의 생산자에게 반환
+        tail++;
+        return element;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullstack.backend_api.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 PreparedStatement 를 만들기 직전의 SQL 을 쿼리 로그용으로 기억 (SQL 은 변경하지 않음)
+ * - hibernate.session_factory.statement_inspector 설정으로 등록됩니다. (Spring 빈 아님)
+ */
+public class QueryLogStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryLogger.statementPrepared(sql);
+        return sql;
+    }
+}
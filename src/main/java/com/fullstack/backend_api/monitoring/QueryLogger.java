@@ -0,0 +1,145 @@
+package com.fullstack.backend_api.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 / 샘플링 SQL 로그 (spring.jpa.show-sql 대체)
+ * - 요청 스레드는 기록 대상 여부만 판단하고 링 버퍼에 넣은 뒤 바로 돌아갑니다. 출력은 백그라운드 스레드가 담당합니다.
+ * - slow-threshold 이상 걸린 SQL 은 항상 전체 문장을, 그 외에는 sample-rate 비율로 앞부분만 기록합니다.
+ * - 바인딩 파라미터 값은 기록하지 않습니다. (개인정보 노출 및 요청 스레드 비용 방지)
+ * - 로거 이름은 query-log 이며, 버퍼가 가득 차 버린 건수도 경고로 남깁니다.
+ */
+@Slf4j(topic = "query-log")
+@Component
+@ConditionalOnProperty(name = "diagnostics.query-log.enabled", havingValue = "true")
+public class QueryLogger implements SmartLifecycle {
+
+    private static final int SAMPLED_SQL_MAX_LENGTH = 120;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // Hibernate 가 직접 생성하는 리스너/인스펙터에서 접근하기 위한 현재 실행 중인 로거
+    private static volatile QueryLogger active;
+    private static final ThreadLocal<String> PREPARED_SQL = new ThreadLocal<>();
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final QueryLogRingBuffer<Entry> buffer;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread drainer;
+
+    public QueryLogger(@Value("${diagnostics.query-log.slow-threshold:200ms}") Duration slowThreshold,
+                       @Value("${diagnostics.query-log.sample-rate:0.01}") double sampleRate,
+                       @Value("${diagnostics.query-log.buffer-size:8192}") int bufferSize) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.buffer = new QueryLogRingBuffer<>(bufferSize);
+    }
+
+    // QueryLogStatementInspector: 곧 실행될 SQL 기억
+    static void statementPrepared(String sql) {
+        if (active != null) {
+            PREPARED_SQL.set(sql);
+        }
+    }
+
+    // JdbcStatementListener: SQL 실행 완료
+    static void statementExecuted(long nanos) {
+        QueryLogger logger = active;
+        if (logger != null) {
+            logger.record(nanos);
+        }
+    }
+
+    private void record(long nanos) {
+        boolean slow = nanos >= slowThresholdNanos;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        if (!buffer.offer(new Entry(slow, nanos, PREPARED_SQL.get()))) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainer = Thread.ofPlatform().name("query-log").daemon().start(this::drainLoop);
+        active = this;
+        log.info("쿼리 로그 시작 (slow >= {}ms, sample-rate={}, buffer={})",
+                TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos), sampleRate, buffer.capacity());
+    }
+
+    @Override
+    public void stop() {
+        if (active == this) {
+            active = null;
+        }
+        running = false;
+        Thread thread = drainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();  // 종료 직전까지 쌓인 항목 기록
+    }
+
+    // 버퍼를 비우고, 기록한 항목이 있으면 true
+    boolean drain() {
+        boolean written = false;
+        Entry entry;
+        while ((entry = buffer.poll()) != null) {
+            write(entry);
+            written = true;
+        }
+        long droppedCount = dropped.sumThenReset();
+        if (droppedCount > 0) {
+            log.warn("쿼리 로그 버퍼가 가득 차 {}건을 기록하지 못했습니다", droppedCount);
+        }
+        return written;
+    }
+
+    private void write(Entry entry) {
+        double millis = entry.nanos() / 1e6;
+        if (entry.slow()) {
+            log.warn("slow query {}ms : {}", String.format("%.1f", millis), entry.sql());
+        } else if (log.isInfoEnabled()) {
+            String sql = entry.sql();
+            if (sql != null && sql.length() > SAMPLED_SQL_MAX_LENGTH) {
+                sql = sql.substring(0, SAMPLED_SQL_MAX_LENGTH) + "...";
+            }
+            log.info("query {}ms : {}", String.format("%.1f", millis), sql);
+        }
+    }
+
+    private record Entry(boolean slow, long nanos, String sql) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.fullstack.backend_api.monitoring;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 요청 하나의 JDBC 사용량 (실행한 SQL 문 수 / 실행 시간 / 커넥션 획득 대기 시간)
+ * - 카운터는 요청 속성(ATTRIBUTE)에 두고, JdbcStatementListener 는 Spring 이 이미 바인딩한
+ *   RequestContextHolder 로 현재 요청의 카운터를 찾습니다. 별도의 ThreadLocal 은 쓰지 않습니다.
+ *   (가상 스레드는 요청마다 새로 만들어지므로 스레드별 재사용은 요청마다 할당이 됩니다)
+ * - 카운터 객체는 Pool 에서 빌려 preHandle 에서 붙이고, afterCompletion 에서 떼어 반납합니다.
+ *   풀이 비어 있을 때(동시 요청이 풀 크기를 넘을 때)만 새로 만듭니다.
+ *   비동기 요청은 ASYNC 재디스패치가 끝날 때까지 붙여 두고, 기록 후 반납하지 않습니다.
+ * - 요청 속성에 붙어 있는 동안만 기록하며, 스케줄러 등 요청 밖에서 실행된 SQL 은 무시합니다.
+ */
+public final class RequestJdbcStats {
+
+    static final String ATTRIBUTE = RequestJdbcStats.class.getName();
+
+    private long startNanos;
+    private int statements;
+    private long statementNanos;
+    private long connectionWaitNanos;
+
+    private RequestJdbcStats() {
+    }
+
+    static void recordStatement(long nanos) {
+        RequestJdbcStats stats = current();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementNanos += nanos;
+        }
+    }
+
+    static void recordConnectionWait(long nanos) {
+        RequestJdbcStats stats = current();
+        if (stats != null) {
+            stats.connectionWaitNanos += nanos;
+        }
+    }
+
+    // 현재 스레드가 처리 중인 요청의 카운터 (요청 밖이거나 측정 대상이 아니면 null)
+    private static RequestJdbcStats current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null
+                : (RequestJdbcStats) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long statementNanos() {
+        return statementNanos;
+    }
+
+    long connectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    /**
+     * 재사용할 카운터 객체 풀 (크기 고정, 넘치는 반납분은 버림)
+     */
+    static final class Pool {
+
+        private final ArrayBlockingQueue<RequestJdbcStats> free;
+
+        Pool(int capacity) {
+            this.free = new ArrayBlockingQueue<>(capacity);
+        }
+
+        // 초기화된 카운터 대여 (풀이 비었으면 새로 생성)
+        RequestJdbcStats acquire() {
+            RequestJdbcStats stats = free.poll();
+            if (stats == null) {
+                stats = new RequestJdbcStats();
+            }
+            stats.startNanos = System.nanoTime();
+            stats.statements = 0;
+            stats.statementNanos = 0;
+            stats.connectionWaitNanos = 0;
+            return stats;
+        }
+
+        // 요청 속성에서 뗀 뒤에만 반납 (반납 후에는 어떤 요청도 이 객체에 기록하지 않음)
+        void release(RequestJdbcStats stats) {
+            free.offer(stats);
+        }
+    }
+}
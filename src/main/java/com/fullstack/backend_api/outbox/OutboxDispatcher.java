@@ -0,0 +1,148 @@
+package com.fullstack.backend_api.outbox;
+
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 디스패처: 대기 이벤트를 batch-size 개씩 읽어 핸들러에 전달합니다.
+ * - 커밋 직후 OutboxPublisher 가 깨우며, 깨우는 신호를 놓치거나 재시도 시각이 된 이벤트는 poll-interval 마다 다시 확인합니다.
+ * - 전달에 성공한 이벤트는 batch 단위로 한 번에 삭제합니다. 전달 후 삭제 전에 종료되면 다시 전달됩니다. (at-least-once)
+ * - 실패한 이벤트는 initial-backoff 부터 두 배씩(최대 max-backoff) 늦춰 재시도하고, max-attempts 번 실패하면 FAILED 로 남깁니다.
+ *   한 이벤트의 실패가 같은 batch 의 다른 이벤트 전달을 막지 않습니다.
+ * - 한 프로세스 안에서는 한 번에 하나의 스레드만 전달합니다. (여러 인스턴스로 확장하면 SELECT ... FOR UPDATE SKIP LOCKED 등 필요)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final Pageable batch;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    // 전달 중 핸들러 I/O 가 있으므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final ExecutorService wakeUpExecutor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("outbox-dispatcher").daemon().factory());
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler> handlers,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retry.initial-backoff:PT1S}") Duration initialBackoff,
+                            @Value("${outbox.retry.max-backoff:PT10M}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = List.copyOf(handlers);
+        this.batch = PageRequest.of(0, batchSize);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * 새 이벤트가 커밋되었음을 알립니다. 이미 깨우는 중이면 합쳐서 한 번만 전달합니다.
+     */
+    public void wakeUp() {
+        if (wakeUpRequested.compareAndSet(false, true)) {
+            try {
+                wakeUpExecutor.execute(this::dispatchPending);
+            } catch (RejectedExecutionException e) {
+                wakeUpRequested.set(false);  // 종료 중: 남은 이벤트는 다음 기동 시 전달
+            }
+        }
+    }
+
+    /**
+     * 지금 전달할 수 있는 이벤트가 없을 때까지 batch 단위로 전달합니다.
+     * @return 전달에 성공한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT1S}")
+    public int dispatchPending() {
+        dispatchLock.lock();
+        try {
+            wakeUpRequested.set(false);  // 이후 커밋된 이벤트는 다시 깨워서 이어서 전달
+            int delivered = 0;
+            List<OutboxEvent> events;
+            do {
+                events = outboxEventRepository.findDue(OutboxEvent.Status.PENDING, LocalDateTime.now(), batch);
+                delivered += dispatch(events);
+            } while (events.size() == batch.getPageSize());
+            return delivered;
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 이벤트 조회/정리 실패 (다음 주기에 다시 시도)", e);
+            return 0;
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private int dispatch(List<OutboxEvent> events) {
+        List<Long> delivered = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                for (OutboxEventHandler handler : handlers) {
+                    if (handler.supports(event.getType())) {
+                        handler.handle(event);
+                    }
+                }
+                delivered.add(event.getId());
+            } catch (RuntimeException e) {
+                reschedule(event, e);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBulk(delivered);
+        }
+        return delivered.size();
+    }
+
+    private void reschedule(OutboxEvent event, RuntimeException cause) {
+        int attempts = event.getAttempts() + 1;
+        String error = String.valueOf(cause);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            log.error("아웃박스 이벤트 {} 전달을 {}회 실패하여 중단합니다", event, attempts, cause);
+            outboxEventRepository.markFailed(event.getId(), OutboxEvent.Status.FAILED, event.getNextAttemptAt(), error);
+            return;
+        }
+        Duration backoff = backoff(attempts);
+        log.warn("아웃박스 이벤트 {} 전달 실패 ({}회), {} 후 다시 시도: {}", event, attempts, backoff, error);
+        outboxEventRepository.markFailed(event.getId(), OutboxEvent.Status.PENDING, LocalDateTime.now().plus(backoff), error);
+    }
+
+    // initial-backoff * 2^(attempts - 1), 최대 max-backoff
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullstack.backend_api.outbox;
+
+import com.fullstack.backend_api.domain.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 핸들러 (빈으로 등록하면 OutboxDispatcher 가 자동으로 찾아 호출)
+ * - 요청 트랜잭션이 커밋된 뒤 디스패처 스레드에서 트랜잭션 없이 호출됩니다.
+ * - 같은 이벤트가 두 번 이상 전달될 수 있으므로(재시도, 전달 후 삭제 전 종료) 멱등이어야 합니다.
+ * - 예외를 던지면 백오프 후 다시 전달됩니다. (같은 이벤트의 다른 핸들러도 다시 호출됨)
+ */
+public interface OutboxEventHandler {
+
+    boolean supports(OutboxEvent.Type type);
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,59 @@
+package com.fullstack.backend_api.outbox;
+
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글/댓글 변경 트랜잭션에 아웃박스 이벤트를 기록합니다.
+ * 요청 스레드에서는 INSERT 한 건만 추가되고, 색인 등 부수 작업은 커밋 후 OutboxDispatcher 가 처리합니다.
+ */
+@Component
+public class OutboxPublisher {
+
+    // 트랜잭션당 한 번만 커밋 후 디스패처를 깨우기 위한 리소스 키
+    private static final Object WAKE_UP_KEY = new Object();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository, OutboxDispatcher outboxDispatcher) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    /**
+     * 이벤트 기록 (호출자의 트랜잭션 필수: 변경과 이벤트가 함께 커밋/롤백되어야 하므로 트랜잭션 없이 호출하면 예외)
+     * @param commentId 댓글 이벤트가 아니면 null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEvent.Type type, Long postId, Long commentId) {
+        outboxEventRepository.save(new OutboxEvent(type, postId, commentId, LocalDateTime.now()));
+        wakeUpAfterCommit();
+    }
+
+    // 폴링 주기를 기다리지 않고 커밋 직후 바로 전달 (롤백되면 깨우지 않음)
+    private void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.hasResource(WAKE_UP_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WAKE_UP_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WAKE_UP_KEY);
+            }
+        });
+    }
+}
@@ -1,98 +0,0 @@
-package com.fullstack.backend_api.provider; // 💡 사용자님의 실제 패키지 경로로 변경
-
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import jakarta.annotation.PostConstruct;
-import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.stereotype.Component;
-
-import java.util.Base64;
-import java.util.Date;
-import java.util.List;
-
-@RequiredArgsConstructor
-@Component
-public class JwtTokenProvider {
-
-    @Value("${jwt.secret}") // application.properties에서 secret key 로드
-    private String secretKey;
-
-    private final UserDetailsService userDetailsService;
-
-    // 토큰 유효시간 30분
-    private long tokenValidTime = 30 * 60 * 1000L;
-
-    // 객체 초기화, secretKey를 Base64로 인코딩합니다.
-    @PostConstruct
-    protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
-    }
-
-    /**
-     * JWT 토큰 생성
-     * @param userPk 인증된 사용자 ID (Principal)
-     * @param roles 사용자 권한 목록
-     * @return 생성된 JWT 토큰
-     */
-    public String createToken(String userPk, List<String> roles) {
-        Claims claims = Jwts.claims().setSubject(userPk); // JWT payload에 저장되는 정보 단위
-        claims.put("roles", roles); // 정보는 key-value 쌍으로 저장됩니다.
-        Date now = new Date();
-        return Jwts.builder()
-                .setClaims(claims) // 정보 저장
-                .setIssuedAt(now) // 토큰 발행 시간 정보
-                .setExpiration(new Date(now.getTime() + tokenValidTime)) // set Expire Time
-                .signWith(SignatureAlgorithm.HS256, secretKey)  // 사용할 암호화 알고리즘과 signature에 들어갈 secret값 세팅
-                .compact();
-    }
-
-    /**
-     * JWT 토큰에서 인증 정보 조회
-     * @param token JWT 토큰
-     * @return 인증 객체 (Authentication)
-     */
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserPk(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-    }
-
-    /**
-     * 토큰에서 회원 정보 추출
-     * @param token JWT 토큰
-     * @return 회원 ID
-     */
-    public String getUserPk(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
-    }
-
-    /**
-     * Request의 Header에서 token 값을 가져옵니다. "X-AUTH-TOKEN" : "TOKEN값'
-     * @param request HTTP 요청
-     * @return 토큰 값
-     */
-    public String resolveToken(HttpServletRequest request) {
-        return request.getHeader("X-AUTH-TOKEN");
-    }
-
-    /**
-     * 토큰의 유효성 + 만료일자 확인
-     * @param token JWT 토큰
-     * @return 유효성 여부
-     */
-    public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.fullstack.backend_api.repository;
+
+import com.fullstack.backend_api.domain.AttachmentBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    /**
+     * 참조 수를 DB 에서 원자적으로 1 증가시킵니다.
+     * @return 갱신된 행 수 (0 이면 아직 블롭 행이 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update AttachmentBlob b set b.refCount = b.refCount + 1 where b.hash = :hash")
+    int incrementRefCount(@Param("hash") String hash);
+
+    /**
+     * 참조 수를 DB 에서 원자적으로 1 감소시키고 해제 시각을 기록합니다. (0 미만으로 내려가지 않음)
+     * 호출자의 트랜잭션(게시글 삭제 등)에 참여하므로 롤백되면 함께 취소됩니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update AttachmentBlob b set b.refCount = b.refCount - 1, b.releasedAt = :now " +
+           "where b.hash = :hash and b.refCount > 0")
+    int decrementRefCount(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    /**
+     * 참조가 없고 유예 시간이 지난 블롭 (GC 대상)
+     */
+    @Query("select b.hash from AttachmentBlob b where b.refCount = 0 and b.releasedAt < :cutoff")
+    List<String> findCollectableHashes(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
+
+    /**
+     * 여전히 참조가 없을 때만 행을 삭제합니다. (조회 이후 다시 참조된 블롭은 삭제되지 않음)
+     * @return 삭제된 행 수 (1 이면 파일도 삭제해도 됨)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from AttachmentBlob b where b.hash = :hash and b.refCount = 0")
+    int deleteIfUnreferenced(@Param("hash") String hash);
+}
@@ -1,9 +1,21 @@
 package com.fullstack.backend_api.repository;
 
 import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.dto.CommentOwner;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
@@ -15,6 +27,98 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Page<Comment> findAllByPostId(Long postId, Pageable pageable);
 
+    /**
+     * 조건부 GET 용 댓글 목록 버전 (가장 최근 수정 시각 + 댓글 수, 인덱스만으로 집계)
+     * 댓글이 없으면 (null, 0) 을 반환합니다.
+     */
+    @Query("select new com.fullstack.backend_api.dto.ResourceVersion(max(c.modifiedAt), count(c)) " +
+           "from Comment c where c.post.id = :postId")
+    ResourceVersion findVersionByPostId(@Param("postId") Long postId);
+
+    /**
+     * 특정 Post의 댓글 첫 페이지를 작성순으로 조회합니다. (작성자 fetch join, count 쿼리 없음)
+     * @param pageable 조회 개수만 사용 (size + 1 건을 읽어 다음 페이지 여부 판단)
+     */
+    @Query("select c from Comment c join fetch c.author " +
+           "where c.post.id = :postId " +
+           "order by c.createdAt asc, c.id asc")
+    Slice<Comment> findSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서 (createdAt, id) 이후의 댓글을 작성순으로 조회합니다. (post_id, created_at, id) 인덱스 seek
+     */
+    @Query("select c from Comment c join fetch c.author " +
+           "where c.post.id = :postId " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    Slice<Comment> findSliceByPostIdAfter(@Param("postId") Long postId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /**
+     * 댓글의 게시글/작성자 ID 만 조회합니다. (댓글/작성자 엔티티를 로드하지 않고 권한 검사)
+     */
+    @Query("select new com.fullstack.backend_api.dto.CommentOwner(c.id, c.post.id, c.author.id) " +
+           "from Comment c where c.id = :id")
+    Optional<CommentOwner> findOwnerById(@Param("id") Long id);
+
+    /**
+     * 작성자 본인(또는 admin = true)일 때만 댓글 내용을 수정하는 조건부 UPDATE
+     * @return 수정된 행 수 (0 이면 댓글이 없거나 권한 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.content = :content, c.modifiedAt = :now " +
+           "where c.id = :id and (:admin = true or c.author.id = :authorId)")
+    int updateContentIfPermitted(@Param("id") Long id,
+                                 @Param("authorId") Long authorId,
+                                 @Param("admin") boolean admin,
+                                 @Param("content") String content,
+                                 @Param("now") LocalDateTime now);
+
+    /**
+     * 댓글을 작성자와 함께 한 번의 SQL 로 조회합니다. (수정 후 응답 생성용)
+     */
+    @Query("select c from Comment c join fetch c.author where c.id = :id")
+    Optional<Comment> findWithAuthorById(@Param("id") Long id);
+
+    /**
+     * 게시글의 댓글을 한 번의 DELETE 로 삭제합니다. (게시글 삭제 시 comments cascade 대신 사용)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId")
+    int deleteAllByPostIdInBulk(@Param("postId") Long postId);
+
+    /**
+     * 댓글의 게시글/작성자 ID 만 조회합니다. (일괄 삭제 시 엔티티를 로드하지 않고 권한 검사)
+     */
+    @Query("select new com.fullstack.backend_api.dto.CommentOwner(c.id, c.post.id, c.author.id) " +
+           "from Comment c where c.id in :ids")
+    List<CommentOwner> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 ID 의 댓글을 한 번의 DELETE 로 삭제합니다. (영속성 컨텍스트를 거치지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Comment c where c.id in :ids")
+    int deleteAllByIdInBulk(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글의 댓글 ID 를 id 순으로 limit 개만 조회합니다. (모더레이션 청크 삭제용, 항상 첫 페이지만 사용)
+     */
+    @Query("select c.id from Comment c where c.post.id = :postId order by c.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable limit);
+
+    /**
+     * 작성자의 댓글 소유 정보를 id 순으로 limit 개만 조회합니다. (모더레이션 청크 삭제용, 항상 첫 페이지만 사용)
+     */
+    @Query("select new com.fullstack.backend_api.dto.CommentOwner(c.id, c.post.id, c.author.id) " +
+           "from Comment c where c.author.id = :authorId order by c.id")
+    List<CommentOwner> findOwnersByAuthorId(@Param("authorId") Long authorId, Pageable limit);
+
     // 참고: JpaRepository는 기본적으로 findById, save, delete 등을 제공합니다.
     // 따라서 이 외의 필요한 쿼리 메서드만 여기에 정의합니다.
 }
\ No newline at end of file
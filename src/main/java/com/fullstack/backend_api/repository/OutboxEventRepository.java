@@ -0,0 +1,46 @@
+package com.fullstack.backend_api.repository;
+
+import com.fullstack.backend_api.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 지금 전달할 차례인 대기 이벤트를 id 순으로 limit 개 조회합니다. (항상 첫 페이지만 사용)
+     */
+    @Query("select e from OutboxEvent e where e.status = :status and e.nextAttemptAt <= :now order by e.id")
+    List<OutboxEvent> findDue(@Param("status") OutboxEvent.Status status,
+                              @Param("now") LocalDateTime now,
+                              Pageable limit);
+
+    /**
+     * 전달이 끝난 이벤트를 한 번의 DELETE 로 삭제합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteAllByIdInBulk(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전달 실패 기록: 시도 횟수를 1 올리고 다음 시도 시각(또는 FAILED 상태)과 오류 메시지를 저장합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.status = :status, " +
+           "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error where e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") OutboxEvent.Status status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    long countByStatus(OutboxEvent.Status status);
+}
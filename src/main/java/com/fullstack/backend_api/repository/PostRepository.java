@@ -1,9 +1,212 @@
 package com.fullstack.backend_api.repository;
 
 import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.dto.AttachmentInfo;
+import com.fullstack.backend_api.dto.PostDetail;
+import com.fullstack.backend_api.dto.PostOwner;
+import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 // JpaRepository를 상속받으면 CRUD 기능을 자동으로 제공받습니다.
 public interface PostRepository extends JpaRepository<Post, Long> {
     // 별도의 코드 없이도 Spring Data JPA가 모든 DB 접근 코드를 만들어줍니다.
+
+    // 스트리밍 내보내기 시 한 번에 DB에서 가져올 행 수
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 게시글 단건을 작성자 이름과 함께 한 번의 SQL로 조회합니다.
+     * 엔티티를 로드하지 않으므로 트랜잭션 밖(캐시 로더 등)에서도 지연 로딩 없이 사용할 수 있습니다.
+     */
+    @Query("select new com.fullstack.backend_api.dto.PostResponseDto(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount) " +
+           "from Post p join p.author a where p.id = :id")
+    Optional<PostResponseDto> findPostResponseById(@Param("id") Long id);
+
+    /**
+     * 상세 캐시 적재용: findPostResponseById 와 같은 조회에 수정 시각을 더해
+     * 캐시 적중 시 버전(ETag) 계산에도 SQL 이 필요 없도록 합니다.
+     */
+    @Query("select new com.fullstack.backend_api.dto.PostDetail(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount, p.modifiedAt) " +
+           "from Post p join p.author a where p.id = :id")
+    Optional<PostDetail> findPostDetailById(@Param("id") Long id);
+
+    /**
+     * 여러 게시글을 작성자 이름과 함께 한 번의 SQL로 조회합니다. (검색 결과 ID -> DTO, 순서는 호출자가 맞춤)
+     */
+    @Query("select new com.fullstack.backend_api.dto.PostResponseDto(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount) " +
+           "from Post p join p.author a where p.id in :ids")
+    List<PostResponseDto> findPostResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 조건부 GET 용 게시글 버전 (수정 시각 + 댓글 수, 제목/본문은 읽지 않음)
+     * 댓글 수 변경은 수정 시각을 바꾸지 않으므로 ETag 에 댓글 수를 포함합니다.
+     */
+    @Query("select new com.fullstack.backend_api.dto.ResourceVersion(p.modifiedAt, p.commentCount) from Post p where p.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 댓글 수를 DB 에서 원자적으로 1 증가시킵니다. (동시 댓글 작성 시에도 유실 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    /**
+     * 댓글 수를 DB 에서 원자적으로 1 감소시킵니다. (0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount - 1 where p.id = :id and p.commentCount > 0")
+    int decrementCommentCount(@Param("id") Long id);
+
+    /**
+     * 댓글 수를 delta 만큼 원자적으로 변경합니다. (일괄 작성/삭제 시 게시글당 한 번, 0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = case when p.commentCount + :delta < 0 then 0 " +
+           "else p.commentCount + :delta end where p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * 게시글의 작성자/첨부파일 정보만 조회합니다. (게시글/작성자 엔티티를 로드하지 않고 권한 검사)
+     */
+    @Query("select new com.fullstack.backend_api.dto.PostOwner(p.id, a.id, a.username, p.fileHash) " +
+           "from Post p join p.author a where p.id = :id")
+    Optional<PostOwner> findOwnerById(@Param("id") Long id);
+
+    /**
+     * 작성자 본인일 때만 제목/내용을 수정하는 조건부 UPDATE
+     * @return 수정된 행 수 (0 이면 게시글이 없거나 작성자가 아님)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.title = :title, p.content = :content, p.modifiedAt = :now " +
+           "where p.id = :id and p.author.id = (select m.id from Member m where m.username = :username)")
+    int updateIfAuthor(@Param("id") Long id,
+                       @Param("username") String username,
+                       @Param("title") String title,
+                       @Param("content") String content,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 작성자 본인의 게시글일 때만 삭제하는 조건부 DELETE (댓글은 먼저 삭제해야 함)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Post p where p.id = :id and p.author.id = :authorId")
+    int deleteByIdAndAuthorId(@Param("id") Long id, @Param("authorId") Long authorId);
+
+    /**
+     * 작성자의 게시글 ID 를 id 순으로 limit 개만 조회합니다. (모더레이션 청크 삭제용, 항상 첫 페이지만 사용)
+     */
+    @Query("select p.id from Post p where p.author.id = :authorId order by p.id")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId, Pageable limit);
+
+    /**
+     * 게시글들의 첨부파일 해시 (삭제 전 블롭 참조 해제용)
+     */
+    @Query("select p.fileHash from Post p where p.id in :ids and p.fileHash is not null")
+    List<String> findFileHashesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글을 한 번의 DELETE 로 삭제합니다. (댓글 cascade 를 거치지 않으므로 댓글을 먼저 삭제해야 함)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Post p where p.id in :ids")
+    int deleteAllByIdInBulk(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 ID 중 실제로 존재하는 게시글 ID 만 조회합니다. (일괄 작성 시 게시글별 검증을 한 번의 SQL 로)
+     */
+    @Query("select p.id from Post p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id 구간 [fromId, toId) 안에서 실제 댓글 수와 다른 게시글의 댓글 수를 바로잡습니다. (정합성 복구 작업용)
+     * @return 수정된 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p) " +
+           "where p.id >= :fromId and p.id < :toId " +
+           "and p.commentCount <> (select count(c) from Comment c where c.post = p)")
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select max(p.id) from Post p")
+    Optional<Long> findMaxId();
+
+    /**
+     * 첨부파일 다운로드 정보 (제목/본문은 읽지 않음, 첨부파일이 없으면 empty)
+     */
+    @Query("select new com.fullstack.backend_api.dto.AttachmentInfo(p.filePath, p.fileName, p.fileHash) " +
+           "from Post p where p.id = :id and p.filePath is not null")
+    Optional<AttachmentInfo> findAttachmentById(@Param("id") Long id);
+
+    /**
+     * 게시글 목록을 작성자 이름과 함께 한 번의 SQL로 조회합니다. (N+1 방지)
+     * 영속성 컨텍스트에 엔티티를 올리지 않고 DTO로 바로 반환합니다.
+     * @param pageable 페이징 및 정렬 정보 (정렬 속성은 Post 기준, 예: createdAt)
+     * @return 게시글 응답 DTO의 Page 객체
+     */
+    @Query(value = "select new com.fullstack.backend_api.dto.PostResponseDto(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount) " +
+                   "from Post p join p.author a",
+           countQuery = "select count(p) from Post p")
+    Page<PostResponseDto> findPostResponses(Pageable pageable);
+
+    /**
+     * 전체 게시글을 작성자 이름과 함께 한 번의 SQL로, 전진 전용(forward-only) 커서로 스트리밍 조회합니다.
+     * - fetch size 단위로 DB에서 읽어오므로 전체 결과를 메모리에 올리지 않습니다.
+     *   (MySQL은 JDBC URL에 useCursorFetch=true 가 있어야 fetch size 가 적용됩니다.)
+     * - DTO 로 바로 반환하므로 영속성 컨텍스트가 커지지 않습니다.
+     * - 반드시 트랜잭션 안에서 사용하고 try-with-resources 로 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.fullstack.backend_api.dto.PostResponseDto(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount) " +
+           "from Post p join p.author a order by p.id")
+    Stream<PostResponseDto> streamAllPostResponses();
+
+    /**
+     * 커서 기반 목록의 첫 페이지 (최신순, count 쿼리 없음)
+     * @param pageable 조회 개수만 사용 (size + 1 건을 읽어 다음 페이지 여부 판단)
+     */
+    @Query("select new com.fullstack.backend_api.dto.PostResponseDto(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount) " +
+           "from Post p join p.author a " +
+           "order by p.createdAt desc, p.id desc")
+    Slice<PostResponseDto> findPostSlice(Pageable pageable);
+
+    /**
+     * 커서 (createdAt, id) 이후의 게시글을 최신순으로 조회합니다.
+     * (created_at, id) 인덱스를 seek 하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     */
+    @Query("select new com.fullstack.backend_api.dto.PostResponseDto(p.id, p.title, p.content, a.username, p.createdAt, p.commentCount, p.viewCount) " +
+           "from Post p join p.author a " +
+           "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id) " +
+           "order by p.createdAt desc, p.id desc")
+    Slice<PostResponseDto> findPostSliceBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
 }
@@ -0,0 +1,238 @@
+package com.fullstack.backend_api.search;
+
+import com.fullstack.backend_api.dto.PostResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목/본문 전문 검색 역색인 (프로세스 내 Lucene, 한국어 형태소 분석기 Nori)
+ * - LIKE '%q%' 처럼 TEXT 컬럼 전체를 스캔하지 않고 형태소 단위 역색인에서 BM25 점수 순으로 게시글 ID 만 찾습니다.
+ *   (제목 일치는 본문보다 TITLE_BOOST 배 가중치)
+ * - 게시글 작성/수정/삭제는 커밋 후 아웃박스 이벤트로 PostSearchIndexer 가 증분 반영합니다. (롤백된 내용은 색인되지 않음)
+ * - 색인 변경은 search.refresh-interval 마다 검색에 보이고(near real-time), search.commit-interval 마다 디스크에 커밋합니다.
+ *   비정상 종료 시 마지막 커밋 이후 변경은 색인에서 유실되므로 rebuild 로 DB 와 다시 맞춥니다.
+ * - search.index-dir 가 비어 있으면 메모리 색인을 사용합니다. (테스트, 같은 JVM 에 컨텍스트가 여러 개일 때)
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final Directory directory;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    // 재구성 중에는 중간 상태(일부만 다시 색인된 상태)가 검색에 보이지 않도록 refresh 를 막음
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public PostSearchIndex(@Value("${search.index-dir:}") String indexDir) throws IOException {
+        this.directory = indexDir.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Paths.get(indexDir).toAbsolutePath().normalize());
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        warmUpAnalyzer();
+    }
+
+    /**
+     * 게시글 색인 추가/교체 (같은 ID 의 이전 문서는 삭제, 여러 번 호출해도 결과가 같음)
+     */
+    public void index(Long postId, String title, String content) {
+        try {
+            writer.updateDocument(idTerm(postId), toDocument(postId, title, content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 게시글 색인 삭제 (없는 ID 는 무시)
+     */
+    public void remove(Long postId) {
+        try {
+            writer.deleteDocuments(idTerm(postId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 검색어를 형태소 분석하여 점수 순으로 offset 부터 limit 개의 게시글 ID 를 반환합니다.
+     * 전체 건수는 정확도 비용을 줄이기 위해 1000 건까지만 정확하며, 그 이상은 하한값입니다.
+     */
+    public Hits search(String text, int offset, int limit) {
+        Query query = toQuery(text);
+        if (query == null) {
+            return new Hits(0, List.of());  // 불용어/조사만 있는 검색어
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, offset + limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(limit);
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    ScoreDoc hit = top.scoreDocs[i];
+                    ids.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return new Hits(top.totalHits.value, ids);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 전체 재구성: 기존 색인을 비우고 posts 를 모두 다시 색인한 뒤 커밋하고, 끝난 뒤에 한 번에 검색에 반영합니다.
+     * 재구성 도중의 증분 반영도 ID 기준 교체이므로 중복 문서는 생기지 않습니다.
+     * @return 색인한 게시글 수
+     * @throws IllegalStateException 이미 재구성 중
+     */
+    public long rebuild(Stream<PostResponseDto> posts) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("검색 색인을 이미 재구성하고 있습니다.");
+        }
+        rebuildLock.lock();  // 진행 중인 refresh 가 끝날 때까지 대기
+        try {
+            writer.deleteAll();
+            long count = 0;
+            Iterator<PostResponseDto> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                PostResponseDto post = iterator.next();
+                writer.updateDocument(idTerm(post.getId()), toDocument(post.getId(), post.getTitle(), post.getContent()));
+                count++;
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.unlock();
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 반영된 변경을 검색에 보이게 합니다. (새 세그먼트를 메모리에서 바로 열며 디스크 커밋은 하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${search.refresh-interval:PT1S}")
+    public void refresh() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.warn("검색 색인 refresh 실패", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.commit-interval:PT1M}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("검색 색인 커밋 실패 (다음 주기에 다시 시도)", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // Nori 사전(수십 MB)은 처음 분석할 때 로드되므로, 첫 색인/검색 요청이 수 초 걸리지 않도록 기동 시 미리 로드
+    private void warmUpAnalyzer() throws IOException {
+        try (TokenStream tokens = analyzer.tokenStream(CONTENT, "형태소 분석기 사전 로드")) {
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                // 토큰은 사용하지 않음
+            }
+            tokens.end();
+        }
+    }
+
+    private Query toQuery(String text) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query title = builder.createBooleanQuery(TITLE, text);
+        Query content = builder.createBooleanQuery(CONTENT, text);
+        if (title == null || content == null) {
+            return null;
+        }
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(content, BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private static Document toDocument(Long postId, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID, postId.toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, title == null ? "" : title, Field.Store.NO));
+        document.add(new TextField(CONTENT, content == null ? "" : content, Field.Store.NO));
+        return document;
+    }
+
+    private static Term idTerm(Long postId) {
+        return new Term(ID, postId.toString());
+    }
+
+    /**
+     * 검색 결과 (점수 순 게시글 ID, 전체 일치 건수)
+     */
+    public record Hits(long total, List<Long> ids) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullstack.backend_api.search;
+
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.outbox.OutboxEventHandler;
+import com.fullstack.backend_api.repository.PostRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 변경 이벤트를 검색 색인에 반영합니다.
+ * 이벤트에는 ID 만 있으므로 처리 시점의 게시글을 다시 조회하여 색인하고, 이미 삭제되었으면 색인에서도 지웁니다.
+ * (중복/순서가 뒤바뀐 전달에도 최종 색인은 DB 와 같아짐)
+ */
+@Component
+public class PostSearchIndexer implements OutboxEventHandler {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    public PostSearchIndexer(PostSearchIndex postSearchIndex, PostRepository postRepository) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+    }
+
+    @Override
+    public boolean supports(OutboxEvent.Type type) {
+        return type == OutboxEvent.Type.POST_CREATED
+                || type == OutboxEvent.Type.POST_UPDATED
+                || type == OutboxEvent.Type.POST_DELETED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Long postId = event.getPostId();
+        if (event.getType() == OutboxEvent.Type.POST_DELETED) {
+            postSearchIndex.remove(postId);
+            return;
+        }
+        postRepository.findPostResponseById(postId).ifPresentOrElse(
+                post -> postSearchIndex.index(postId, post.getTitle(), post.getContent()),
+                () -> postSearchIndex.remove(postId));
+    }
+}
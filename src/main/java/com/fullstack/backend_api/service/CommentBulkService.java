@@ -0,0 +1,196 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.dto.BulkCommentCreateRequest;
+import com.fullstack.backend_api.dto.BulkItemResult;
+import com.fullstack.backend_api.dto.BulkItemResult.Status;
+import com.fullstack.backend_api.dto.BulkResultResponse;
+import com.fullstack.backend_api.dto.CommentOwner;
+import com.fullstack.backend_api.exception.PermissionDeniedException;
+import com.fullstack.backend_api.exception.ResourceNotFoundException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 일괄 작성/삭제 (마이그레이션, 운영 도구용)
+ * - 게시글/작성자 검증은 항목마다가 아니라 요청당 한 번씩만 수행합니다.
+ * - 작성은 pooled 시퀀스 + hibernate.jdbc.batch_size 로 batch INSERT, batch-size 마다 flush/clear 하여 메모리를 일정하게 유지합니다.
+ * - 삭제는 엔티티를 로드하지 않고 batch-size 개씩 소유 정보 조회 후 DELETE ... WHERE id IN (...) 로 처리합니다.
+ * - 항목별 결과를 요청 순서대로 돌려주며, 유효한 항목은 한 트랜잭션으로 모두 반영되거나 모두 취소됩니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CommentBulkService {
+
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostDetailCache postDetailCache;
+    private final EntityManager entityManager;
+    private final OutboxPublisher outboxPublisher;
+    private final int batchSize;
+    private final int maxItems;
+
+    public CommentBulkService(CommentRepository commentRepository, PostRepository postRepository, UserRepository userRepository,
+                              PostDetailCache postDetailCache, EntityManager entityManager, OutboxPublisher outboxPublisher,
+                              @Value("${comment.bulk.batch-size:50}") int batchSize,
+                              @Value("${comment.bulk.max-items:5000}") int maxItems) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.postDetailCache = postDetailCache;
+        this.entityManager = entityManager;
+        this.outboxPublisher = outboxPublisher;
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 댓글 일괄 작성 (작성자는 현재 사용자)
+     */
+    @Transactional
+    public BulkResultResponse createComments(List<BulkCommentCreateRequest.Item> items, Long currentUserId) {
+        checkItemCount(items.size());
+
+        // 1. 작성자와 게시글 존재 여부는 요청당 한 번씩만 확인
+        if (currentUserId == null) {
+            throw new PermissionDeniedException("댓글을 작성할 권한이 없습니다.");
+        }
+        Member author = userRepository.findById(currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자", "ID", currentUserId));
+        Set<Long> postIds = items.stream()
+                .map(BulkCommentCreateRequest.Item::getPostId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingPostIds = postIds.isEmpty() ? Set.of() : new HashSet<>(postRepository.findExistingIds(postIds));
+
+        // 2. 항목별 검증 후 저장 (게시글은 프록시 참조만 사용하여 SELECT 없음)
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        Map<Long, Long> createdPerPost = new LinkedHashMap<>();
+        int pending = 0;
+        for (int i = 0; i < items.size(); i++) {
+            BulkCommentCreateRequest.Item item = items.get(i);
+            String content = item.getContent();
+            if (content == null || content.isBlank() || content.length() > MAX_CONTENT_LENGTH) {
+                results.add(BulkItemResult.failure(i, null, Status.INVALID, "댓글 내용은 1자 이상 500 자 이하로 입력해야 합니다."));
+                continue;
+            }
+            if (item.getPostId() == null || !existingPostIds.contains(item.getPostId())) {
+                results.add(BulkItemResult.failure(i, null, Status.NOT_FOUND, "게시글이 존재하지 않습니다. ID: " + item.getPostId()));
+                continue;
+            }
+
+            Comment comment = commentRepository.save(Comment.builder()
+                    .content(content)
+                    .post(postRepository.getReferenceById(item.getPostId()))
+                    .author(author)
+                    .build());
+            results.add(BulkItemResult.success(i, comment.getId(), Status.CREATED));  // 시퀀스 할당이므로 flush 전에도 ID 확정
+            createdPerPost.merge(item.getPostId(), 1L, Long::sum);
+            outboxPublisher.publish(OutboxEvent.Type.COMMENT_CREATED, item.getPostId(), comment.getId());  // 댓글과 함께 batch INSERT
+
+            if (++pending == batchSize) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+        flushAndClear();
+
+        // 3. 게시글별 댓글 수는 게시글당 UPDATE 한 번
+        createdPerPost.forEach((postId, created) -> {
+            postRepository.addCommentCount(postId, created);
+            postDetailCache.evict(postId);
+        });
+        return BulkResultResponse.of(results);
+    }
+
+    /**
+     * 댓글 일괄 삭제 (본인 댓글 또는 ADMIN)
+     */
+    @Transactional
+    public BulkResultResponse deleteComments(List<Long> commentIds, Long currentUserId, Collection<String> currentUserRoles) {
+        checkItemCount(commentIds.size());
+        if (currentUserId == null) {
+            throw new PermissionDeniedException("댓글을 삭제할 권한이 없습니다.");
+        }
+        boolean admin = currentUserRoles != null && currentUserRoles.contains("ROLE_ADMIN");
+
+        BulkItemResult[] results = new BulkItemResult[commentIds.size()];
+        Map<Long, Integer> firstIndexById = new LinkedHashMap<>();
+        for (int i = 0; i < commentIds.size(); i++) {
+            Long commentId = commentIds.get(i);
+            if (commentId == null || firstIndexById.putIfAbsent(commentId, i) != null) {
+                results[i] = BulkItemResult.failure(i, commentId, Status.INVALID, "댓글 ID 가 비어 있거나 중복되었습니다.");
+            }
+        }
+
+        // batch-size 개씩: 소유 정보 조회 1회 + 권한 있는 댓글 DELETE 1회
+        Map<Long, Long> deletedPerPost = new HashMap<>();
+        List<Long> distinctIds = new ArrayList<>(firstIndexById.keySet());
+        for (int from = 0; from < distinctIds.size(); from += batchSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + batchSize, distinctIds.size()));
+            Map<Long, CommentOwner> owners = commentRepository.findOwnersByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(CommentOwner::commentId, Function.identity()));
+
+            List<Long> deletable = new ArrayList<>(chunk.size());
+            for (Long commentId : chunk) {
+                int index = firstIndexById.get(commentId);
+                CommentOwner owner = owners.get(commentId);
+                if (owner == null) {
+                    results[index] = BulkItemResult.failure(index, commentId, Status.NOT_FOUND, "댓글이 존재하지 않습니다.");
+                } else if (!admin && !currentUserId.equals(owner.authorId())) {
+                    results[index] = BulkItemResult.failure(index, commentId, Status.FORBIDDEN, "댓글을 삭제할 권한이 없습니다.");
+                } else {
+                    results[index] = BulkItemResult.success(index, commentId, Status.DELETED);
+                    deletable.add(commentId);
+                    deletedPerPost.merge(owner.postId(), 1L, Long::sum);
+                    outboxPublisher.publish(OutboxEvent.Type.COMMENT_DELETED, owner.postId(), commentId);
+                }
+            }
+            if (!deletable.isEmpty()) {
+                commentRepository.deleteAllByIdInBulk(deletable);
+            }
+        }
+
+        deletedPerPost.forEach((postId, deleted) -> {
+            postRepository.addCommentCount(postId, -deleted);
+            postDetailCache.evict(postId);
+        });
+        return BulkResultResponse.of(Arrays.asList(results));
+    }
+
+    private void checkItemCount(int count) {
+        if (count > maxItems) {
+            throw new IllegalStateException("한 번에 처리할 수 있는 항목은 최대 " + maxItems + "개입니다.");
+        }
+    }
+
+    // batch INSERT 실행 후 영속성 컨텍스트를 비워 요청 크기와 무관하게 메모리 사용량을 일정하게 유지
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
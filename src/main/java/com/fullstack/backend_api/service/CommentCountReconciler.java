@@ -0,0 +1,50 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 댓글 수(Post.commentCount) 정합성 복구 (백그라운드)
+ * 댓글 수는 댓글 작성/삭제 시 원자적 UPDATE 로 유지되지만, 직접 SQL 수정이나 일괄 적재 등으로 어긋날 수 있어
+ * 주기적으로 실제 COUNT 와 비교하여 다른 게시글만 바로잡습니다.
+ * id 구간 단위로 나누어 짧은 트랜잭션으로 실행하므로 긴 잠금을 만들지 않습니다.
+ * 복구된 값은 게시글 상세 캐시 만료(spring.cache.caffeine.spec) 이후 응답에 반영됩니다.
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final int batchSize;
+
+    public CommentCountReconciler(PostRepository postRepository,
+                                  @Value("${post.comment-count.reconcile.batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${post.comment-count.reconcile.interval:PT1H}",
+               initialDelayString = "${post.comment-count.reconcile.interval:PT1H}")
+    public void scheduledReconcile() {
+        int repaired = reconcile();
+        if (repaired > 0) {
+            log.warn("댓글 수가 어긋난 게시글 {}건을 복구했습니다", repaired);
+        }
+    }
+
+    /**
+     * 전체 게시글의 댓글 수를 실제 댓글 수로 맞춥니다.
+     * @return 복구된 게시글 수
+     */
+    public int reconcile() {
+        long maxId = postRepository.findMaxId().orElse(0L);
+        int repaired = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += batchSize) {
+            repaired += postRepository.reconcileCommentCounts(fromId, fromId + batchSize);
+        }
+        return repaired;
+    }
+}
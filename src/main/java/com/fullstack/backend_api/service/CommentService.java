@@ -1,36 +1,60 @@
 package com.fullstack.backend_api.service;
 
 import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.OutboxEvent;
 import com.fullstack.backend_api.domain.Post;
 import com.fullstack.backend_api.domain.Member;
 import com.fullstack.backend_api.dto.CommentCreateRequest;
+import com.fullstack.backend_api.dto.CommentOwner;
 import com.fullstack.backend_api.dto.CommentResponseDto;
 import com.fullstack.backend_api.dto.CommentUpdateRequest;
+import com.fullstack.backend_api.dto.CursorSliceResponse;
+import com.fullstack.backend_api.dto.KeysetCursor;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import com.fullstack.backend_api.exception.PermissionDeniedException;
 import com.fullstack.backend_api.exception.ResourceNotFoundException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
 import com.fullstack.backend_api.repository.CommentRepository;
 import com.fullstack.backend_api.repository.PostRepository;
 import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.stream.CommentStreamHub;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // 커서 기반 조회 시 한 번에 가져올 수 있는 최대 개수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;  // 댓글 작성 시 해당 게시글이 존재하는지 확인용
     private final UserRepository userRepository;  // 사용자 정보
+    private final PostDetailCache postDetailCache;  // 댓글 변경 시 게시글 상세 캐시 무효화
+    private final OutboxPublisher outboxPublisher;  // 댓글 변경 이벤트 (커밋 후 비동기 처리)
+    private final CommentStreamHub commentStreamHub;  // 실시간 댓글 구독 (SSE)
 
     // 생성자
-    public CommentService(CommentRepository commentRepository, PostRepository postRepository, UserRepository userRepository) {
+    public CommentService(CommentRepository commentRepository, PostRepository postRepository, UserRepository userRepository,
+                          PostDetailCache postDetailCache, OutboxPublisher outboxPublisher,
+                          CommentStreamHub commentStreamHub) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
+        this.postDetailCache = postDetailCache;
+        this.outboxPublisher = outboxPublisher;
+        this.commentStreamHub = commentStreamHub;
     }
 
     /**
@@ -61,6 +85,9 @@ public class CommentService {
 
         // 4. 저장 및 DTO 변환
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId);
+        postDetailCache.evict(postId);
+        outboxPublisher.publish(OutboxEvent.Type.COMMENT_CREATED, postId, savedComment.getId());
 
         // 5. 응답
         return CommentResponseDto.from(savedComment);
@@ -80,27 +107,68 @@ public class CommentService {
         return commentPage.map(CommentResponseDto::from);
     }
 
+    /**
+     * 댓글 목록의 조건부 GET 용 버전 (수정 시각 최댓값 + 댓글 수)
+     * 추가/수정/삭제 중 하나라도 일어나면 값이 바뀝니다.
+     * 게시글 단위 버전이므로 ETag 는 ResourceVersion.eTag(resource, id, pageable) 로 페이지/정렬과 함께 만듭니다.
+     */
+    public Optional<ResourceVersion> getCommentsVersion(Long postId) {
+        return Optional.ofNullable(commentRepository.findVersionByPostId(postId));
+    }
+
+    /**
+     * 댓글 목록 커서 기반 조회 (작성순, count 쿼리 없음)
+     */
+    public CursorSliceResponse<CommentResponseDto> getCommentsByCursor(Long postId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+
+        Slice<Comment> slice = (position == null)
+                ? commentRepository.findSliceByPostId(postId, limit)
+                : commentRepository.findSliceByPostIdAfter(postId, position.createdAt(), position.id(), limit);
+
+        return CursorSliceResponse.of(slice.map(CommentResponseDto::from),
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
+    }
+
+    /**
+     * 게시글 댓글 작성/수정/삭제 실시간 구독 (SSE)
+     * 목록을 주기적으로 다시 조회하지 않고, 커밋된 변경만 이벤트로 받습니다.
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더)
+     */
+    public SseEmitter subscribeComments(Long postId, String lastEventId) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("게시글", "ID", postId);
+        }
+        return commentStreamHub.subscribe(postId, lastEventId);
+    }
+
     /**
      * 댓글 수정 (권한 검사 포함)
      */
     @Transactional
     public CommentResponseDto updateComment(Long commentId, CommentUpdateRequest request, Long currentUserId, Collection<String> currentUserRoles) {
-        // 1. 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("댓글", "ID", commentId));
-
-        // 2. 권한 검사 (핵심 로직)
-        if (!hasPermissionToModify(comment, currentUserId, currentUserRoles)) {
+        // 1. 권한 조건을 포함한 조건부 UPDATE 1회 (작성자 본인 또는 ADMIN, 댓글/작성자 엔티티를 로드하지 않음)
+        boolean admin = currentUserId != null && isAdmin(currentUserRoles);  // 미인증 사용자는 역할과 관계없이 권한 없음
+        int updated = commentRepository.updateContentIfPermitted(commentId, currentUserId, admin,
+                request.getContent(), LocalDateTime.now());
+
+        // 2. 일치하는 행이 없을 때만 원인 구분 (댓글 없음 / 권한 없음)
+        if (updated == 0) {
+            commentRepository.findOwnerById(commentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("댓글", "ID", commentId));
             throw new PermissionDeniedException("댓글을 수정할 권한이 없습니다.");
         }
 
-        // 3. 수정 (Setter 대신 비즈니스 메서드 사용 권장)
-        comment.updateContent(request.getContent());
-
-        // 4. 저장 (Transactional 환경에서는 Dirty Checking으로 자동 저장되지만, 명시적 save는 권장되기도 함)
-        Comment savedComment = commentRepository.save(comment);
+        // 3. 수정된 댓글을 작성자와 함께 한 번의 SQL 로 조회
+        Comment savedComment = commentRepository.findWithAuthorById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("댓글", "ID", commentId));
+        evictPostDetail(savedComment);
+        if (savedComment.getPost() != null) {
+            outboxPublisher.publish(OutboxEvent.Type.COMMENT_UPDATED, savedComment.getPost().getId(), commentId);
+        }
 
-        // 5. 응답
+        // 4. 응답
         return CommentResponseDto.from(savedComment);
     }
 
@@ -109,24 +177,42 @@ public class CommentService {
      */
     @Transactional
     public void deleteComment(Long commentId, Long currentUserId, Collection<String> currentUserRoles) {
-        // 1. 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
+        // 1. 게시글/작성자 ID 만 조회 (댓글/작성자 엔티티를 로드하지 않음)
+        CommentOwner owner = commentRepository.findOwnerById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글", "ID", commentId));
 
         // 2. 권한 검사 (핵심 로직)
-        if (!hasPermissionToModify(comment, currentUserId, currentUserRoles)) {
+        if (!hasPermissionToModify(owner.authorId(), currentUserId, currentUserRoles)) {
             throw new PermissionDeniedException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 3. 삭제
-        commentRepository.delete(comment);
+        // 3. 삭제 (게시글 댓글 수도 같은 트랜잭션에서 감소)
+        //    동시에 들어온 다른 삭제 요청이 먼저 지운 경우 댓글 수를 다시 줄이지 않고 404
+        int deleted = commentRepository.deleteAllByIdInBulk(List.of(commentId));
+        if (deleted == 0) {
+            throw new ResourceNotFoundException("댓글", "ID", commentId);
+        }
+        if (owner.postId() != null) {
+            postRepository.decrementCommentCount(owner.postId());
+            postDetailCache.evict(owner.postId());
+            outboxPublisher.publish(OutboxEvent.Type.COMMENT_DELETED, owner.postId(), commentId);
+        }
+    }
+
+    /**
+     * Helper 메서드: 댓글이 속한 게시글의 상세 캐시 무효화
+     */
+    private void evictPostDetail(Comment comment) {
+        if (comment.getPost() != null) {
+            postDetailCache.evict(comment.getPost().getId());
+        }
     }
 
     /**
      * Helper 메서드: 수정/삭제 권한 확인 로직
      * (작성자이거나 ADMIN 역할인지 확인)
      */
-    private boolean hasPermissionToModify(Comment comment, Long currentUserId, Collection<String> currentUserRoles) {
+    private boolean hasPermissionToModify(Long authorId, Long currentUserId, Collection<String> currentUserRoles) {
 
         // NULL 체크 추가: currentUserId가 null이면 인증되지 않은 것으로 간주하고 권한 없음(false) 반환
         if (currentUserId == null) {
@@ -134,11 +220,15 @@ public class CommentService {
         }
 
         // ADMIN은 무조건 통과
-        if (currentUserRoles != null && currentUserRoles.contains("ROLE_ADMIN")) {
+        if (isAdmin(currentUserRoles)) {
             return true;
         }
 
         // 댓글 작성자 본인인지 확인
-        return comment.getAuthor().getId().equals(currentUserId);
+        return currentUserId.equals(authorId);
+    }
+
+    private boolean isAdmin(Collection<String> currentUserRoles) {
+        return currentUserRoles != null && currentUserRoles.contains("ROLE_ADMIN");
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.fullstack.backend_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 JWT 의 클레임을 보관하는 캐시
+ * - 키: 토큰 원문 대신 SHA-256 다이제스트 (메모리 절약 및 토큰 원문 미보관)
+ * - 값: 인증에 필요한 클레임만 복사한 불변 TokenClaims (요청 간에 수정 가능한 Claims 를 공유하지 않음), 토큰의 exp 시각까지만 유지
+ * - 만료 계산은 Caffeine Ticker 를 시간 원천으로 사용합니다. 벽시계 시각은 생성 시 한 번만 읽어
+ *   Ticker 값과의 차이로 보정하므로 이후 시스템 시계 변경의 영향을 받지 않습니다.
+ * - 최대 개수를 넘으면 Caffeine 정책에 따라 제거되며, 적중/미스/제거 횟수를 기록합니다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, TokenClaims> cache;
+
+    @Autowired
+    public JwtClaimsCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this(maxSize, Ticker.systemTicker());
+    }
+
+    // 테스트에서 시간을 제어하기 위한 생성자
+    JwtClaimsCache(long maxSize, Ticker ticker) {
+        // Ticker 값(ns) + epochOffsetNanos = 현재 시각(epoch ns)
+        long epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - ticker.read();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .expireAfter(new TokenExpiry(epochOffsetNanos))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 검증된 클레임이 있으면 반환하고, 없으면 verifier 로 한 번만 파싱/검증 후 저장합니다.
+     * verifier 가 던진 예외(만료, 서명 오류 등)는 그대로 전파되며 캐시에 저장되지 않습니다.
+     */
+    public TokenClaims get(String token, Function<String, TokenClaims> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    // 로그아웃, 강제 만료 등 특정 토큰을 즉시 무효화할 때 사용
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    // 적중(hit) / 미스(miss) / 제거(eviction) 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 지표 등록(CaffeineCacheMetrics)용 원본 캐시
+    public Cache<String, TokenClaims> getNativeCache() {
+        return cache;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 필수 지원 알고리즘이므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 엔트리별 만료 시간을 토큰의 exp 클레임에 맞춥니다.
+     * exp 가 없거나 이미 지난 토큰은 즉시 만료시켜 캐시에 남지 않도록 합니다.
+     */
+    private static class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        private final long epochOffsetNanos;
+
+        TokenExpiry(long epochOffsetNanos) {
+            this.epochOffsetNanos = epochOffsetNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            if (claims.expiration() == null) {
+                return 0L;
+            }
+            long expiresAtNanos = TimeUnit.MILLISECONDS.toNanos(claims.expiration().toEpochMilli());
+            long remainingNanos = expiresAtNanos - (currentTime + epochOffsetNanos);
+            return Math.max(remainingNanos, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
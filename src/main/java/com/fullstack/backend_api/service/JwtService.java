@@ -1,90 +1,177 @@
 package com.fullstack.backend_api.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import com.fullstack.backend_api.domain.Member;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * JWT 발급/검증 엔진 (애플리케이션의 유일한 JWT 구현)
+ * - 서명 키와 파서는 기동 시 한 번만 생성합니다. 요청마다 키를 디코딩/생성하지 않습니다.
+ * - 발급 토큰 헤더에 kid 를 넣고, 검증 시 kid 로 미리 만든 키를 고릅니다. (키 교체 지원)
+ *   키 교체: 새 키를 jwt.secret.key / jwt.secret.kid 로, 이전 키를 jwt.secret.previous-keys 에 옮기면
+ *   이전 키로 발급된 토큰도 만료될 때까지 검증됩니다.
+ * - kid 가 없는 토큰(kid 도입 전 발급분)은 현재 키로 검증합니다.
+ */
 @Service
 public class JwtService {
 
-    // 1. application.properties에서 JWT 시크릿 키를 읽어옵니다.
+    // 토큰 만료 시간 (기본 1시간)
+    private final long expirationMillis;
+
+    // 1. application.properties의 JWT 시크릿 키로 서명 키와 파서를 기동 시 한 번만 생성합니다.
     // **주의:** 실제 서비스에서는 이 키를 안전하게 관리해야 합니다.
-    @Value("${jwt.secret.key}")
-    private String SECRET_KEY;
+    private final String signingKeyId;
+    private final Key signingKey;
+    // kid -> 검증 키 (현재 키 + 교체 전 키)
+    private final Map<String, Key> verificationKeys;
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰의 클레임 캐시 (요청마다 HMAC 검증/JSON 파싱 반복 방지)
+    private final JwtClaimsCache claimsCache;
+
+    /**
+     * @param secretKey 현재 서명 키 (Base64, 256bit 이상)
+     * @param keyId 현재 서명 키의 kid
+     * @param previousKeys 검증에만 쓰는 이전 키 목록 ("kid:Base64키" 형식)
+     */
+    public JwtService(@Value("${jwt.secret.key}") String secretKey,
+                      @Value("${jwt.secret.kid:k1}") String keyId,
+                      @Value("${jwt.secret.previous-keys:}") List<String> previousKeys,
+                      @Value("${jwt.expiration:PT1H}") Duration expiration,
+                      JwtClaimsCache claimsCache) {
+        this.signingKeyId = keyId;
+        this.signingKey = hmacKey(secretKey);
 
-    // 토큰 만료 시간 (예 : 1시간)
-    private final long JWT_EXPIRATION_TIME = 1000 * 60 * 60;
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(keyId, signingKey);
+        for (String entry : previousKeys) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("jwt.secret.previous-keys 는 kid:Base64키 형식이어야 합니다 : " + entry);
+            }
+            String previousId = entry.substring(0, separator).trim();
+            if (keys.putIfAbsent(previousId, hmacKey(entry.substring(separator + 1).trim())) != null) {
+                throw new IllegalArgumentException("중복된 JWT kid 입니다 : " + previousId);
+            }
+        }
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    @SuppressWarnings("rawtypes")  // jjwt 0.11 SigningKeyResolver 시그니처가 raw JwsHeader
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.expirationMillis = expiration.toMillis();
+        this.claimsCache = claimsCache;
+    }
 
     // 2. JWT 토큰 생성
     public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        // 토큰에 사용자 이름 외 추가 정보(클레임)를 넣을 수 있습니다.
-        claims.put("roles", userDetails.getAuthorities());
-
-        return createToken(claims, userDetails.getUsername());
+        // 권한과 사용자 ID를 넣어두면 stateless 모드에서 DB 조회 없이 Principal 을 구성할 수 있습니다.
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        Long userId = userDetails instanceof Member member ? member.getId() : null;
+        return createToken(userDetails.getUsername(), userId, roles);
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    /**
+     * 사용자 이름, 회원 ID(uid 클레임), 권한 목록으로 JWT 토큰 생성
+     * @param userId 회원 PK (null 이면 uid 클레임 생략)
+     */
+    public String createToken(String username, Long userId, Collection<String> roles) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("roles", roles);
+        if (userId != null) {
+            claims.put("uid", userId);
+        }
+
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)                 // 검증 키 선택용 kid
                 .setClaims(claims)
-                .setSubject(subject)                                                        // 토큰 주체(사용자 이름)
-                .setIssuedAt(new Date(System.currentTimeMillis()))                          // 발행 시간
-                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION_TIME))  // 만료 시간
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)                        // 서명 알고리즘 및 키
-                .compact();                                                                 // 토큰 완성
-    }
-
-    // 3. 서명에 사용할 Secret Key를 디코딩하여 반환
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+                .setSubject(username)                                           // 토큰 주체(사용자 이름)
+                .setIssuedAt(new Date(now))                                     // 발행 시간
+                .setExpiration(new Date(now + expirationMillis))                // 만료 시간
+                .signWith(signingKey, SignatureAlgorithm.HS256)                 // 서명 알고리즘 및 키
+                .compact();                                                     // 토큰 완성
     }
 
     // 1. 토큰에서 사용자 이름 (Subject) 추출
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return extractClaim(token, TokenClaims::subject);
     }
 
     // 2. 토큰의 유효성 검증
     public boolean validationToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        // 사용자 이름 일치 및 토큰 만료 여부 확인
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validationToken(extractAllClaims(token), userDetails);
     }
 
-    // 3. 토큰 만료 여부 확인
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // 2-1. 이미 검증/파싱된 클레임으로 유효성 검증 (필터에서 토큰을 한 번만 파싱하기 위해 사용)
+    public boolean validationToken(TokenClaims claims, UserDetails userDetails) {
+        final String username = claims.subject();
+        // 사용자 이름 일치 및 토큰 만료 여부 확인 (sub 가 없는 토큰은 불일치)
+        return (username != null && username.equals(userDetails.getUsername()) && !isTokenExpired(claims));
     }
 
-    // 4. 토큰 만료 일자 추출
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // 3. 토큰 만료 여부 확인
+    private boolean isTokenExpired(TokenClaims claims) {
+        return claims.isExpiredAt(Instant.now());
     }
 
     // 5. 토큰에서 특정 클레임 추출을 위한 일반 메서드
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+    private <T> T extractClaim(String token, Function<TokenClaims, T> claimsResolver) {
+        final TokenClaims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    // 6. 토큰의 모든 클레임 추출
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 6. 토큰의 인증 클레임 추출 (서명 검증 결과는 토큰 만료 시각까지 불변 스냅샷으로 캐시됨)
+    public TokenClaims extractAllClaims(String token) {
+        return claimsCache.get(token, this::parseClaims);
+    }
+
+    private TokenClaims parseClaims(String token) {
+        return TokenClaims.from(jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    // kid 로 미리 만든 검증 키 선택 (kid 없음: 현재 키)
+    private Key verificationKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+        Key key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new JwtException("알 수 없는 JWT 서명 키입니다 : " + keyId);
+        }
+        return key;
+    }
+
+    private static Key hmacKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
     }
 }
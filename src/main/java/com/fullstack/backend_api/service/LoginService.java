@@ -0,0 +1,91 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.dto.AuthResponse;
+import com.fullstack.backend_api.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 처리 (비밀번호 검증 + JWT 발급)
+ * - BCrypt 검증은 CPU 만 쓰는 작업이므로 요청 스레드가 아닌 전용 스레드 풀(기본: CPU 코어 수)에서 실행합니다.
+ *   로그인이 몰려도 요청 스레드는 바로 반환되어 다른 API 처리에 영향을 주지 않습니다.
+ * - 대기열은 queue-capacity 개로 제한합니다. 가득 차면 기다리지 않고 503 으로 거절하고,
+ *   대기열에서 max-queue-wait 이상 기다린 요청은 (클라이언트가 이미 포기했을 가능성이 높으므로) 검증하지 않고 거절합니다.
+ * - login- 스레드에는 HTTP 요청이 바인딩되지 않으므로 여기서 실행한 SQL(사용자 조회, 재해시 저장)은
+ *   엔드포인트 SQL 지표에 집계되지 않습니다. 처리 시간 지표는 대기열 시간을 포함해 기록됩니다. (EndpointMetricsInterceptor)
+ */
+@Service
+public class LoginService {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtService jwtService;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+
+    public LoginService(AuthenticationManager authenticationManager,
+                        JwtService jwtService,
+                        @Value("${security.login.threads:0}") int threads,
+                        @Value("${security.login.queue-capacity:64}") int queueCapacity,
+                        @Value("${security.login.max-queue-wait:PT2S}") Duration maxQueueWait) {
+        this.authenticationManager = authenticationManager;
+        this.jwtService = jwtService;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // 큐가 가득 차면 AbortPolicy 로 즉시 RejectedExecutionException
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("login-", 0).daemon().factory());
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+    }
+
+    /**
+     * 로그인 스레드 풀에서 인증 후 토큰 발급
+     * @throws ServiceUnavailableException 대기열이 가득 참 (요청 스레드에서 바로 발생)
+     */
+    public CompletableFuture<AuthResponse> login(String username, String password) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (System.nanoTime() - queuedAt > maxQueueWaitNanos) {
+                    throw new ServiceUnavailableException(BUSY_MESSAGE);
+                }
+                return authenticate(username, password);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        }
+    }
+
+    /**
+     * 비밀번호 검증 후 토큰 발급 (호출 스레드에서 실행)
+     * 인증 결과의 Principal 을 그대로 사용하므로 사용자를 다시 조회하지 않습니다.
+     */
+    AuthResponse authenticate(String username, String password) {
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(username, password));
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+
+        return AuthResponse.builder()
+                .token(jwtService.generateToken(userDetails))
+                .username(userDetails.getUsername())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,57 @@
+package com.fullstack.backend_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * username -> MemberSnapshot 캐시 (토큰 인증 시 users 테이블 조회 생략용)
+ * - 엔티티가 아닌 불변 스냅샷(id, username, role)만 보관하며 비밀번호 해시는 담지 않습니다.
+ * - security.member-cache.enabled=false 이면 항상 로더를 호출합니다.
+ * - 회원 엔티티가 수정되거나 삭제되면 MemberCacheEvictionListener 가 해당 사용자를 제거합니다. (커밋 후 한 번 더 제거)
+ * - 다중 인스턴스 환경을 고려해 쓰기 후 일정 시간이 지나면 만료됩니다.
+ */
+@Component
+public class MemberCache {
+
+    private final boolean enabled;
+    private final Cache<String, MemberSnapshot> cache;
+
+    public MemberCache(@Value("${security.member-cache.enabled:true}") boolean enabled,
+                       @Value("${security.member-cache.max-size:10000}") long maxSize,
+                       @Value("${security.member-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public MemberSnapshot get(String username, Function<String, MemberSnapshot> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        return cache.get(username, loader);
+    }
+
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 지표 등록(CaffeineCacheMetrics)용 원본 캐시
+    public Cache<String, MemberSnapshot> getNativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.Member;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Member 엔티티 변경(수정, 삭제) 시 MemberCache 에서 해당 사용자를 제거하는 JPA 엔티티 리스너
+ * (Spring Boot 가 Hibernate 에 SpringBeanContainer 를 등록하므로 생성자 주입이 가능합니다.)
+ * - @PostUpdate/@PostRemove 는 커밋 전 flush 시점에 호출됩니다. 그 사이 다른 요청이 아직 커밋되지 않은
+ *   이전 행을 다시 캐시할 수 있으므로, 즉시 한 번 제거하고 트랜잭션 커밋 후(afterCommit) 한 번 더 제거합니다.
+ */
+@Component
+public class MemberCacheEvictionListener {
+
+    private final MemberCache memberCache;
+
+    public MemberCacheEvictionListener(MemberCache memberCache) {
+        this.memberCache = memberCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        String username = member.getUsername();
+        memberCache.evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberCache.evict(username);
+                }
+            });
+        }
+    }
+}
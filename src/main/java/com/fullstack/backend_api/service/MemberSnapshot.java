@@ -0,0 +1,24 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.Member;
+
+/**
+ * MemberCache 에 보관하는 인증 주체 정보 (불변, 비밀번호 해시 미포함)
+ * 영속성 컨텍스트에 묶인 Member 엔티티를 스레드/세션 간에 공유하지 않기 위해 필요한 값만 복사합니다.
+ */
+public record MemberSnapshot(Long id, String username, String role) {
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(member.getId(), member.getUsername(), member.getRole());
+    }
+
+    // 요청마다 새 Principal 생성 (토큰 기반 인증이므로 비밀번호는 비워 둠)
+    public Member toPrincipal() {
+        return Member.builder()
+                .id(id)
+                .username(username)
+                .password("")
+                .role(role)
+                .build();
+    }
+}
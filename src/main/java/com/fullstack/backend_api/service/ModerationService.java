@@ -0,0 +1,168 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.dto.CommentOwner;
+import com.fullstack.backend_api.dto.ModerationResult;
+import com.fullstack.backend_api.exception.PermissionDeniedException;
+import com.fullstack.backend_api.exception.ResourceNotFoundException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.storage.AttachmentStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * 모더레이션 일괄 삭제 (ADMIN 전용)
+ * 일반 삭제(PostService.deletePost)는 한 트랜잭션에서 게시글의 댓글 전체를 한 번에 DELETE 하므로
+ * 댓글이 수만 건이면 잠금 시간과 undo 로그가 댓글 수에 비례합니다. 여기서는
+ * - 권한과 대상 존재 여부를 DELETE 전에 한 번만 확인하고,
+ * - 엔티티를 로드하지 않고 ID 만 chunk-size 개씩 조회하여 DELETE ... WHERE id IN (...) 로 삭제하며,
+ * - 청크마다 별도 트랜잭션으로 커밋하여 한 번에 잡는 행 잠금과 영속성 컨텍스트 크기를 제한합니다.
+ * - 삭제한 게시글마다, 그리고 남는 게시글에서 지운 회원 댓글마다 같은 청크 트랜잭션에서 삭제 이벤트(Outbox)를 기록합니다.
+ *   삭제될 게시글의 댓글은 이벤트를 따로 남기지 않습니다. (뒤따르는 POST_DELETED 로 구독 채널이 닫히므로 중복, PostService.deletePost 와 동일)
+ * 전체 작업은 하나의 트랜잭션이 아니므로 중간에 실패하면 일부만 삭제된 상태로 남으며, 같은 요청을 다시 실행하면 이어서 삭제됩니다.
+ */
+@Slf4j
+@Service
+public class ModerationService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final PostDetailCache postDetailCache;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Pageable chunk;
+
+    public ModerationService(PostRepository postRepository, CommentRepository commentRepository, UserRepository userRepository,
+                             AttachmentStorage attachmentStorage, PostDetailCache postDetailCache,
+                             OutboxPublisher outboxPublisher, PlatformTransactionManager transactionManager,
+                             @Value("${moderation.delete.chunk-size:1000}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.postDetailCache = postDetailCache;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunk = PageRequest.of(0, chunkSize);
+    }
+
+    /**
+     * 게시글과 그 댓글 전체 삭제
+     */
+    public ModerationResult deletePost(Long postId, Collection<String> currentUserRoles) {
+        requireAdmin(currentUserRoles);
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("게시글", "ID", postId);
+        }
+
+        long deletedComments = deleteCommentsOfPost(postId);
+        long deletedPosts = deletePosts(List.of(postId));
+        log.info("모더레이션: 게시글 {} 삭제 (댓글 {}건)", postId, deletedComments);
+        return new ModerationResult(deletedPosts, deletedComments);
+    }
+
+    /**
+     * 회원이 작성한 게시글(다른 회원의 댓글 포함)과 댓글 전체 삭제
+     */
+    public ModerationResult deleteContentByAuthor(Long memberId, Collection<String> currentUserRoles) {
+        requireAdmin(currentUserRoles);
+        if (!userRepository.existsById(memberId)) {
+            throw new ResourceNotFoundException("사용자", "ID", memberId);
+        }
+
+        // 1. 회원의 댓글 (다른 게시글에 단 댓글 포함), 게시글별 댓글 수도 같은 청크 트랜잭션에서 조정
+        long deletedComments = 0;
+        int deleted;
+        do {
+            deleted = inChunkTransaction(() -> {
+                List<CommentOwner> owners = commentRepository.findOwnersByAuthorId(memberId, chunk);
+                if (owners.isEmpty()) {
+                    return 0;
+                }
+                Map<Long, Long> deletedPerPost = new HashMap<>();
+                owners.forEach(owner -> deletedPerPost.merge(owner.postId(), 1L, Long::sum));
+                int count = commentRepository.deleteAllByIdInBulk(owners.stream().map(CommentOwner::commentId).toList());
+                deletedPerPost.forEach((postId, n) -> {
+                    postRepository.addCommentCount(postId, -n);
+                    postDetailCache.evict(postId);
+                });
+                owners.forEach(owner ->
+                        outboxPublisher.publish(OutboxEvent.Type.COMMENT_DELETED, owner.postId(), owner.commentId()));
+                return count;
+            });
+            deletedComments += deleted;
+        } while (deleted > 0);
+
+        // 2. 회원의 게시글 (남아 있는 다른 회원의 댓글을 먼저 삭제)
+        long deletedPosts = 0;
+        List<Long> postIds;
+        while (!(postIds = postRepository.findIdsByAuthorId(memberId, chunk)).isEmpty()) {
+            for (Long postId : postIds) {
+                deletedComments += deleteCommentsOfPost(postId);
+            }
+            deletedPosts += deletePosts(postIds);
+        }
+
+        log.info("모더레이션: 회원 {} 의 게시글 {}건, 댓글 {}건 삭제", memberId, deletedPosts, deletedComments);
+        return new ModerationResult(deletedPosts, deletedComments);
+    }
+
+    // 삭제할 게시글의 댓글을 청크 단위로 삭제 (댓글별 이벤트 없음, 게시글 삭제 이벤트가 대신함)
+    private long deleteCommentsOfPost(Long postId) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = inChunkTransaction(() -> {
+                List<Long> commentIds = commentRepository.findIdsByPostId(postId, chunk);
+                if (commentIds.isEmpty()) {
+                    return 0;
+                }
+                int count = commentRepository.deleteAllByIdInBulk(commentIds);
+                postRepository.addCommentCount(postId, -count);
+                return count;
+            });
+            total += deleted;
+        } while (deleted > 0);
+        return total;
+    }
+
+    // 댓글이 없는 게시글들을 삭제하고 첨부파일 블롭 참조 해제, 삭제 이벤트 기록을 같은 트랜잭션에서 처리 (파일은 GC 가 정리)
+    private int deletePosts(List<Long> postIds) {
+        int deleted = inChunkTransaction(() -> {
+            List<String> fileHashes = postRepository.findFileHashesByIdIn(postIds);
+            int count = postRepository.deleteAllByIdInBulk(postIds);
+            fileHashes.forEach(attachmentStorage::release);
+            postIds.forEach(postId -> outboxPublisher.publish(OutboxEvent.Type.POST_DELETED, postId, null));
+            return count;
+        });
+        postIds.forEach(postDetailCache::evict);
+        return deleted;
+    }
+
+    private int inChunkTransaction(IntSupplier work) {
+        Integer result = transactionTemplate.execute(status -> work.getAsInt());
+        return result == null ? 0 : result;
+    }
+
+    private void requireAdmin(Collection<String> currentUserRoles) {
+        if (currentUserRoles == null || !currentUserRoles.contains("ROLE_ADMIN")) {
+            throw new PermissionDeniedException("모더레이션 권한이 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.dto.PostDetail;
+import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세(GET /api/posts/{postId}) read-through 캐시
+ * - 실제 저장소는 Spring CacheManager 가 제공하므로 spring.cache.type 설정으로 교체할 수 있습니다.
+ *   (기본: 프로세스 내 Caffeine, 크기/TTL 기반 제거)
+ * - 게시글/댓글 변경 시 evict 를 호출하며, 트랜잭션 중이면 커밋 직후에도 한 번 더 제거하여
+ *   커밋 전에 다른 요청이 이전 값을 다시 채워 넣는 경우를 막습니다.
+ * - PostResponseDto 는 수정 가능한 객체이므로 캐시에는 불변 레코드(CachedPost)를 보관하고,
+ *   조회할 때마다 새 DTO 를 만들어 반환합니다. (한 요청의 변경이 다른 요청 응답에 섞이지 않음)
+ * - 수정 시각도 함께 보관하여 조건부 GET 의 버전(ETag)을 캐시 적중 시 SQL 없이 계산합니다.
+ *   (댓글 수가 바뀌는 변경도 evict 하므로 캐시된 버전은 본문과 항상 같은 시점의 값)
+ */
+@Component
+public class PostDetailCache {
+
+    public static final String CACHE_NAME = "postDetail";
+
+    private final Cache cache;
+
+    @Autowired
+    public PostDetailCache(CacheManager cacheManager) {
+        this(cacheManager.getCache(CACHE_NAME));
+    }
+
+    PostDetailCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader 로 조회하여 저장합니다.
+     * loader 의 예외(게시글 없음 등)는 감싸지 않고 그대로 전파됩니다.
+     * @return 호출마다 새로 만든 DTO (호출자가 수정해도 캐시에 영향 없음)
+     */
+    public PostResponseDto get(Long postId, Supplier<PostDetail> loader) {
+        try {
+            return cache.get(postId, () -> CachedPost.from(loader.get())).toDto();
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시된 게시글의 버전 (수정 시각 + 댓글 수), 캐시에 없으면 empty (적재하지 않음)
+     */
+    public Optional<ResourceVersion> cachedVersion(Long postId) {
+        CachedPost cached = cache.get(postId, CachedPost.class);
+        return cached == null ? Optional.empty()
+                : Optional.of(new ResourceVersion(cached.modifiedAt(), cached.commentCount()));
+    }
+
+    public void evict(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        cache.evict(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(postId);
+                }
+            });
+        }
+    }
+
+    // Caffeine 구현일 때의 적중/미스/제거 통계 (그 외 구현은 빈 통계)
+    public CacheStats stats() {
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return caffeineCache.getNativeCache().stats();
+        }
+        return CacheStats.empty();
+    }
+
+    // 캐시에 보관하는 게시글 상세 (불변, 직렬화하는 저장소(Redis, JCache 등)에서도 사용할 수 있도록 Serializable)
+    record CachedPost(Long id, String title, String content, String author, LocalDateTime createdAt,
+                      long commentCount, long viewCount, LocalDateTime modifiedAt) implements Serializable {
+
+        static CachedPost from(PostDetail detail) {
+            PostResponseDto dto = detail.post();
+            return new CachedPost(dto.getId(), dto.getTitle(), dto.getContent(), dto.getAuthor(), dto.getCreatedAt(),
+                    dto.getCommentCount(), dto.getViewCount(), detail.modifiedAt());
+        }
+
+        PostResponseDto toDto() {
+            return new PostResponseDto(id, title, content, author, createdAt, commentCount, viewCount);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.exception.PermissionDeniedException;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.search.PostSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 전문 검색 (GET /api/search/posts)
+ * 색인에서 점수 순 게시글 ID 를 찾고, 해당 페이지의 게시글만 IN 조회 한 번으로 DTO 로 만들어 점수 순서대로 반환합니다.
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // 깊은 페이지일수록 상위 (offset + size) 건을 모두 점수 계산/정렬해야 하므로 조회 가능한 범위를 제한
+    private static final int MAX_RESULT_WINDOW = 1000;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+
+    public PostSearchService(PostSearchIndex postSearchIndex, PostRepository postRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    public Page<PostResponseDto> search(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalStateException("검색어를 입력해야 합니다.");
+        }
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE));
+        if (page.getOffset() + page.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new IllegalStateException("검색 결과는 상위 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        PostSearchIndex.Hits hits = postSearchIndex.search(query, (int) page.getOffset(), page.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), page, hits.total());
+        }
+
+        // 색인 반영 직전에 삭제된 게시글은 조회되지 않으므로 건너뜀
+        Map<Long, PostResponseDto> postsById = postRepository.findPostResponsesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(PostResponseDto::getId, Function.identity()));
+        List<PostResponseDto> posts = hits.ids().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(posts, page, hits.total());
+    }
+
+    /**
+     * 색인 전체 재구성 (ADMIN 전용): DB 의 게시글을 커서로 스트리밍하며 다시 색인합니다.
+     * @return 색인한 게시글 수
+     */
+    public long rebuild(Collection<String> currentUserRoles) {
+        if (currentUserRoles == null || !currentUserRoles.contains("ROLE_ADMIN")) {
+            throw new PermissionDeniedException("검색 색인을 재구성할 권한이 없습니다.");
+        }
+        return rebuildIndex();
+    }
+
+    // ddl-auto=create 등으로 DB 가 바뀌었을 수 있으므로 기동 시 디스크에 남은 색인을 DB 기준으로 다시 만듦
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildIndex();
+        }
+    }
+
+    private long rebuildIndex() {
+        long started = System.nanoTime();
+        Long count = readOnlyTransaction.execute(status -> {
+            try (Stream<PostResponseDto> posts = postRepository.streamAllPostResponses()) {
+                return postSearchIndex.rebuild(posts);
+            }
+        });
+        log.info("검색 색인 재구성: 게시글 {}건 ({} ms)", count, (System.nanoTime() - started) / 1_000_000);
+        return count == null ? 0 : count;
+    }
+}
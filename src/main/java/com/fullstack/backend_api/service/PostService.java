@@ -1,62 +1,111 @@
 package com.fullstack.backend_api.service;
 
+import com.fullstack.backend_api.domain.OutboxEvent;
 import com.fullstack.backend_api.domain.Post;
 import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.AttachmentInfo;
+import com.fullstack.backend_api.dto.CursorSliceResponse;
+import com.fullstack.backend_api.dto.KeysetCursor;
+import com.fullstack.backend_api.dto.PostOwner;
 import com.fullstack.backend_api.dto.PostRequestDto;
 import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import com.fullstack.backend_api.exception.ResourceNotFoundException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
 import com.fullstack.backend_api.repository.PostRepository;
 import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.storage.AttachmentStorage;
+import com.fullstack.backend_api.storage.StoredAttachment;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class PostService {
 
+    // 커서 기반 조회 시 한 번에 가져올 수 있는 최대 개수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final String NOT_AUTHOR_MESSAGE = "권한이 없습니다. 본인 작성글만 수정/삭제할 수 있습니다.";
+
     @Autowired
     private PostRepository postRepository;
 
     @Autowired
     private UserRepository userRepository;
 
-    @Transactional(readOnly = true)
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    // 검색 색인 등 부수 작업은 변경과 같은 트랜잭션에 이벤트만 기록하고 커밋 후 비동기로 처리
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 캐시 적중 시 트랜잭션/커넥션 없이 반환, 미스 시에만 단건 조회 SQL 1회
+    // 조회수는 메모리에만 누적하고 주기적으로 일괄 반영 (조회마다 UPDATE 하지 않음)
     public PostResponseDto getPost(Long postId) {
+        PostResponseDto post = postDetailCache.get(postId, () -> postRepository.findPostDetailById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId)));
+        viewCountAggregator.increment(postId);
+        return post;
+    }
 
-        // 1. Repository를 통해 ID로 Post 엔티티를 찾습니다.
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
+    // 조건부 GET 용 버전 조회 (캐시 적중 시 SQL 없이, 미스 시에만 버전 조회 SQL 1회)
+    // 게시글이 없으면 empty, 이후 getPost 에서 404 처리
+    public Optional<ResourceVersion> getPostVersion(Long postId) {
+        Optional<ResourceVersion> cached = postDetailCache.cachedVersion(postId);
+        return cached.isPresent() ? cached : postRepository.findVersionById(postId);
+    }
 
-        // 2. Entity -> ResponseDto로 변환 후 반환합니다.
-        return PostResponseDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(post.getAuthor().getUsername())
-                .build();
+    // 첨부파일 다운로드 정보 조회 (게시글/첨부파일/저장된 파일 중 하나라도 없거나, 저장소 밖을 가리키는 이전 방식 경로면 404)
+    public AttachmentInfo getAttachment(Long postId) {
+        AttachmentInfo attachment = postRepository.findAttachmentById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("첨부파일", "게시글 ID", postId));
+        if (attachmentStorage.find(attachment.storedName()).isEmpty()) {
+            throw new ResourceNotFoundException("첨부파일", "게시글 ID", postId);
+        }
+        return attachment;
     }
 
-    // Read: 모든 게시글 조회
-    public List<PostResponseDto> findAll() {
-        List<Post> posts = postRepository.findAll();
-
-        // Entity List를 Stream API를 사용하여 DTO List로 변환
-        return posts.stream()
-                .map(post -> PostResponseDto.builder()
-                        .id(post.getId())
-                        .title(post.getTitle())
-                        .content(post.getContent())
-                        .author(post.getAuthor().getUsername())
-                        .build())
-                .toList();
+    // Read: 모든 게시글 내보내기 (DB 커서에서 한 건씩 읽어 sink 로 전달, 힙 사용량은 행 수와 무관)
+    @Transactional(readOnly = true)
+    public long exportAll(Consumer<PostResponseDto> sink) {
+        long count = 0;
+        try (Stream<PostResponseDto> posts = postRepository.streamAllPostResponses()) {
+            Iterator<PostResponseDto> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
     }
 
     // Create: 게시글 생성
@@ -71,21 +120,17 @@ public class PostService {
         Post post = requestDto.toEntity(member);
 
         // 3. Entity -> ResponseDto 변환 후 반환
-        return new PostResponseDto(postRepository.save(post));
+        Post savedPost = postRepository.save(post);
+        postDetailCache.evict(savedPost.getId());
+        outboxPublisher.publish(OutboxEvent.Type.POST_CREATED, savedPost.getId(), null);
+        return new PostResponseDto(savedPost);
     }
 
     // Update: 게시글 수정
     @Transactional
     public PostResponseDto updatePost(Long postId, PostRequestDto requestDto, String currentUsername) {
 
-        // 1. 게시글 조회 및 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
-
-        // 2. 권한 확인
-        post.validateAuthor(currentUsername);
-
-        // 3. 필수 필드 검증 (추가된 예외 처리)
+        // 1. 필수 필드 검증 (추가된 예외 처리)
         if (requestDto.getTitle() == null || requestDto.getTitle().trim().isEmpty()) {
             throw new IllegalStateException("제목은 필수 항목입니다.");
         }
@@ -93,61 +138,116 @@ public class PostService {
             throw new IllegalStateException("내용은 필수 항목입니다.");
         }
 
-        // 4. 엔티티 수정 (Post 엔티티의 update() 메서드를 호출해야 합니다.)
-        post.update(requestDto.getTitle(), requestDto.getContent());
+        // 2. 작성자 본인일 때만 수정하는 조건부 UPDATE 1회 (게시글/작성자 엔티티를 로드하지 않음)
+        int updated = postRepository.updateIfAuthor(postId, currentUsername,
+                requestDto.getTitle(), requestDto.getContent(), LocalDateTime.now());
 
-        // 수정된 Entity를 Response DTO로 변환하여 반환
-        return PostResponseDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(post.getAuthor().getUsername())
-                .build();
+        // 3. 일치하는 행이 없을 때만 원인 구분 (게시글 없음 / 권한 없음)
+        if (updated == 0) {
+            postRepository.findOwnerById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
+            throw new SecurityException(NOT_AUTHOR_MESSAGE);
+        }
+        postDetailCache.evict(postId);
+        outboxPublisher.publish(OutboxEvent.Type.POST_UPDATED, postId, null);
+
+        // 수정된 게시글을 작성자 이름과 함께 한 번의 SQL 로 조회하여 반환
+        return postRepository.findPostResponseById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
     }
 
     // Delete: 게시글 삭제
     @Transactional
     public void deletePost(Long postId, String currentUsername) {
 
-        // 1. 게시글 조회 및 존재 여부 확인
-        Post post = postRepository.findById(postId)
+        // 1. 작성자/첨부파일 정보만 조회 (게시글/작성자/댓글 엔티티를 로드하지 않음)
+        PostOwner owner = postRepository.findOwnerById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
 
         // 2. 권한 확인 (작성자 일치 여부)
-        post.validateAuthor(currentUsername);
+        if (!owner.isAuthor(currentUsername)) {
+            throw new SecurityException(NOT_AUTHOR_MESSAGE);
+        }
+
+        // 3. 댓글은 cascade 로 하나씩 로드/삭제하지 않고 DELETE 1회, 게시글은 작성자 조건부 DELETE
+        //    (첨부파일 블롭 참조도 같은 트랜잭션에서 해제, 파일은 GC 가 정리)
+        commentRepository.deleteAllByPostIdInBulk(postId);
+        int deleted = postRepository.deleteByIdAndAuthorId(postId, owner.authorId());
 
-        // 3. 권한 확인 후 삭제 실행
-        postRepository.deleteById(postId);
+        // 4. 동시에 들어온 다른 삭제 요청이 먼저 지운 경우: 블롭 참조를 두 번 해제하지 않도록 404 (트랜잭션 롤백)
+        if (deleted == 0) {
+            throw new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId);
+        }
+        if (owner.fileHash() != null) {
+            attachmentStorage.release(owner.fileHash());
+        }
+        postDetailCache.evict(postId);
+        outboxPublisher.publish(OutboxEvent.Type.POST_DELETED, postId, null);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getposts(Pageable pageable) {
-        return postRepository.findAll(pageable)
-                .map(PostResponseDto::new);
+        // 페이지당 목록 1회 + count 1회, 작성자 지연 로딩(N+1) 없음
+        return postRepository.findPostResponses(pageable);
+    }
+
+    // 커서 기반 게시글 목록 조회 (최신순, count 쿼리 없이 페이지 깊이와 무관한 일정 비용)
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostResponseDto> getPostsByCursor(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+
+        Slice<PostResponseDto> slice = (position == null)
+                ? postRepository.findPostSlice(limit)
+                : postRepository.findPostSliceBefore(position.createdAt(), position.id(), limit);
+
+        return CursorSliceResponse.of(slice, post -> new KeysetCursor(post.getCreatedAt(), post.getId()));
     }
 
-    // 파일 저장
+    // 파일 저장 (multipart 업로드, 저장 방식은 스트리밍 업로드와 동일)
     public PostResponseDto createPostWithFile(PostRequestDto requestDto, String username, MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return createPostWithStream(requestDto, username, in, file.getOriginalFilename());
+        }
+    }
+
+    /**
+     * 스트리밍 업로드: 요청 본문을 저장소에 먼저 기록하고, 디스크 동기화가 끝난 뒤에 게시글을 저장합니다.
+     * - 업로드하는 동안에는 트랜잭션/DB 커넥션을 점유하지 않습니다.
+     * - 같은 내용의 파일은 한 번만 저장되고 참조 수만 늘어납니다.
+     * - 게시글 저장에 실패하면 블롭 참조를 해제합니다. (다른 참조가 없으면 GC 가 삭제)
+     */
+    public PostResponseDto createPostWithStream(PostRequestDto requestDto, String username,
+                                                InputStream body, String originalFileName) throws IOException {
 
-        // 1. 작성자 조회
+        // 1. 필수 필드 검증 및 작성자 조회 (파일을 받기 전에 실패 처리)
+        if (requestDto.getTitle() == null || requestDto.getTitle().trim().isEmpty()) {
+            throw new IllegalStateException("제목은 필수 항목입니다.");
+        }
+        if (requestDto.getContent() == null || requestDto.getContent().trim().isEmpty()) {
+            throw new IllegalStateException("내용은 필수 항목입니다.");
+        }
         Member member = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 2. 파일 저장 처리
-        String projectPath = System.getProperty("user.dir") + "/src/main/resources/static/files";
-        File folder = new File(projectPath);
-        if (!folder.exists()) folder.mkdirs();
+        // 2. 파일 저장 (SHA-256 계산, 크기 제한, 디스크 동기화 후 해시 경로로 원자적 이동 또는 중복 제거)
+        StoredAttachment stored = attachmentStorage.store(body, originalFileName);
 
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        File saveFile = new File(projectPath, fileName);
-        file.transferTo(saveFile);
-
-        // 3. 파일 처리 및 엔티티에 파일 정보 세팅
+        // 3. 파일 정보를 담아 게시글 저장 (게시글과 아웃박스 이벤트는 한 트랜잭션, 업로드는 트랜잭션 밖)
         Post post = requestDto.toEntity(member);
-        post.updateFile(fileName, "/files" + fileName);
-
-        // 4. 파일 저장 후 ResponseDto로 변환하여 반환
-        return new PostResponseDto(postRepository.save(post));
+        post.updateFile(stored.originalName(), stored.storedName(), stored.sha256(), stored.size());
+        try {
+            Post savedPost = transactionTemplate.execute(status -> {
+                Post saved = postRepository.save(post);
+                outboxPublisher.publish(OutboxEvent.Type.POST_CREATED, saved.getId(), null);
+                return saved;
+            });
+            postDetailCache.evict(savedPost.getId());
+            return new PostResponseDto(savedPost);
+        } catch (RuntimeException e) {
+            attachmentStorage.release(stored.sha256());
+            throw e;
+        }
     }
 
 }
@@ -1,21 +1,79 @@
 package com.fullstack.backend_api.service;
 
+import com.fullstack.backend_api.domain.Member;
 import com.fullstack.backend_api.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 
 @Service
-public class PostUserDetailsService implements UserDetailsService {
+public class PostUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
-    // 사용자가 입력한 username으로 DB에서 User 객체를 로드하는 메서드
+    @Autowired
+    private MemberCache memberCache;
+
+    // true 이면 서명 검증된 JWT 클레임만으로 Principal 을 구성 (DB 조회 없음)
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuth;
+
+    // 사용자가 입력한 username으로 DB에서 User 객체를 로드하는 메서드 (로그인 비밀번호 검증용, 캐시를 거치지 않음)
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return findMember(username);
+    }
+
+    /**
+     * 검증된 JWT 클레임으로 인증 주체를 구성합니다.
+     * - stateless 모드이고 권한/uid 클레임이 모두 있으면 클레임만으로 Member 를 생성합니다. (users 테이블 조회 없음)
+     * - 그 외(uid 가 없는 토큰 포함)에는 MemberCache 의 스냅샷(미스 시 DB 조회)으로 구성하므로 회원 ID 가 항상 채워집니다.
+     * @throws UsernameNotFoundException sub 클레임이 없는 토큰 (서명이 유효해도 인증하지 않음)
+     */
+    public UserDetails loadUserByClaims(TokenClaims claims) throws UsernameNotFoundException {
+        if (claims.subject() == null) {
+            throw new UsernameNotFoundException("토큰에 사용자 정보(sub)가 없습니다.");
+        }
+        if (!statelessAuth || claims.roles().isEmpty() || claims.uid() == null) {
+            return memberCache.get(claims.subject(), username -> MemberSnapshot.from(findMember(username)))
+                    .toPrincipal();
+        }
+
+        return Member.builder()
+                .id(claims.uid())
+                .username(claims.subject())
+                .password("")  // 토큰 기반 Principal 은 비밀번호를 보관하지 않음
+                .role(claims.roles().get(0))
+                .build();
+    }
+
+    /**
+     * 로그인 성공 후 DaoAuthenticationProvider 가 호출 (저장된 해시의 cost 가 설정값보다 낮을 때만)
+     * 로그인(loadUserByUsername)은 MemberCache 를 거치지 않고 DB 에서 해시를 읽으므로, 트랜잭션이 커밋되면
+     * 다음 로그인부터 새 해시로 검증합니다. (MemberCache 스냅샷에는 해시가 없어 flush/커밋 시점과 무관)
+     * @param newPassword 방금 검증한 비밀번호를 현재 cost 로 다시 해시한 값
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = findMember(user.getUsername());
+        member.changePassword(newPassword);
+        return member;
+    }
+
+    // 엔티티 리스너를 거치지 않는 변경(벌크 UPDATE, 직접 SQL 등) 후 수동으로 캐시를 비워야 할 때 사용
+    public void evictUser(String username) {
+        memberCache.evict(username);
+    }
+
+    private Member findMember(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다 : " + username));
     }
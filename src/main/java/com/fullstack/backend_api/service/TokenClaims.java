@@ -0,0 +1,51 @@
+package com.fullstack.backend_api.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 JWT 에서 인증에 필요한 값만 복사한 불변 스냅샷
+ * (jjwt Claims 는 수정 가능한 Map 이므로 캐시에 보관해 여러 요청이 공유하지 않음)
+ * @param uid 회원 PK (uid 클레임이 없으면 null)
+ * @param roles 권한 목록 (roles 클레임이 없으면 빈 목록)
+ * @param expiration 만료 시각 (exp 클레임이 없으면 null)
+ */
+public record TokenClaims(String subject, Long uid, List<String> roles, Instant expiration) {
+
+    public TokenClaims {
+        roles = List.copyOf(roles);
+    }
+
+    public static TokenClaims from(Claims claims) {
+        Number uid = claims.get("uid", Number.class);
+        return new TokenClaims(
+                claims.getSubject(),
+                uid != null ? uid.longValue() : null,
+                extractRoles(claims.get("roles")),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiration == null || !expiration.isAfter(now);
+    }
+
+    // roles 클레임은 ["ROLE_USER"] 또는 [{"authority":"ROLE_USER"}] 형태 모두 허용
+    private static List<String> extractRoles(Object rolesClaim) {
+        if (!(rolesClaim instanceof Collection<?> values)) {
+            return List.of();
+        }
+        List<String> roles = new ArrayList<>(values.size());
+        for (Object value : values) {
+            Object role = value instanceof Map<?, ?> authority ? authority.get("authority") : value;
+            if (role != null) {
+                roles.add(role.toString());
+            }
+        }
+        return roles;
+    }
+}
@@ -0,0 +1,144 @@
+package com.fullstack.backend_api.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 집계 (메모리 누적 + 주기적 일괄 반영)
+ * 조회마다 UPDATE 하면 인기 게시글 한 행에 행 잠금이 몰리므로, 게시글별 LongAdder(스트라이프 카운터)에 누적하고
+ * post.view-count.flush-interval 마다 증가분을 한 트랜잭션의 JDBC batch UPDATE (view_count = view_count + ?) 로 반영합니다.
+ *
+ * 유실 범위 (조회수는 근사값이므로 정확성보다 조회 처리량을 우선)
+ * - 정상 종료 시에는 @PreDestroy 에서 마지막으로 반영하므로 유실이 없습니다.
+ * - 비정상 종료(kill -9, OOM 등) 시 마지막 반영 이후의 증가분, 즉 최대 flush-interval 동안의 조회수는 유실됩니다.
+ * - 반영이 실패하면 트랜잭션 전체가 롤백되므로 증가분을 그대로 유지하고 다음 주기에 다시 반영합니다. (중복 반영 없음)
+ * - 한 주기 동안 조회가 없던 카운터를 정리하는 순간과 겹친 조회는 드물게 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL = "update post set view_count = view_count + ? where id = ?";
+
+    private final ConcurrentHashMap<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+    // 반영 중 JDBC 블로킹이 있으므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ViewCountAggregator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적, DB 접근 없음)
+     * @param postId 게시글 ID
+     */
+    public void increment(Long postId) {
+        ViewCounter counter = counters.get(postId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(postId, id -> new ViewCounter());
+        }
+        counter.views.increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     * @param postId 게시글 ID
+     */
+    public long pendingViews(Long postId) {
+        ViewCounter counter = counters.get(postId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:PT5S}",
+               initialDelayString = "${post.view-count.flush-interval:PT5S}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 게시글 {}건의 조회수를 반영했습니다", flushed);
+    }
+
+    /**
+     * 누적된 증가분을 한 번의 batch UPDATE 로 반영합니다.
+     * @return 조회수가 반영된 게시글 수 (실패 시 0)
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<ViewCounter> flushing = new ArrayList<>();
+            List<Long> totals = new ArrayList<>();
+            List<Object[]> batchArgs = new ArrayList<>();
+            for (Map.Entry<Long, ViewCounter> entry : counters.entrySet()) {
+                ViewCounter counter = entry.getValue();
+                long total = counter.views.sum();
+                long delta = total - counter.flushed;
+                if (delta > 0) {
+                    flushing.add(counter);
+                    totals.add(total);
+                    batchArgs.add(new Object[]{delta, entry.getKey()});
+                } else {
+                    evictIdle(entry.getKey(), counter);
+                }
+            }
+            if (batchArgs.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("게시글 {}건의 조회수 반영에 실패했습니다. 다음 주기에 다시 반영합니다", batchArgs.size(), e);
+                return 0;
+            }
+            // 커밋이 끝난 뒤에만 반영 완료로 기록 (반영 중 들어온 조회는 다음 주기 증가분으로 남음)
+            for (int i = 0; i < flushing.size(); i++) {
+                flushing.get(i).flushed = totals.get(i);
+            }
+            return batchArgs.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 한 주기 동안 조회가 없던 게시글의 카운터 제거 (삭제된 게시글 등으로 맵이 계속 커지지 않도록)
+    private void evictIdle(Long postId, ViewCounter counter) {
+        if (!counters.remove(postId, counter)) {
+            return;
+        }
+        // 제거 직전에 get() 으로 카운터를 얻은 조회는 새 카운터로 옮겨 유실하지 않음
+        long late = counter.pending();
+        if (late > 0) {
+            counters.computeIfAbsent(postId, id -> new ViewCounter()).views.add(late);
+        }
+    }
+
+    private static final class ViewCounter {
+        private final LongAdder views = new LongAdder();
+        // 반영 완료된 누적값, flushLock 안에서만 변경
+        private volatile long flushed;
+
+        long pending() {
+            return views.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullstack.backend_api.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 참조되지 않는 첨부파일 블롭 정리 (백그라운드)
+ * 게시글 삭제로 참조 수가 0 이 된 블롭을 유예 시간이 지난 뒤 삭제합니다.
+ * 유예 시간 안에 같은 파일이 다시 업로드되면 참조 수가 올라가 삭제 대상에서 빠집니다.
+ */
+@Slf4j
+@Component
+public class AttachmentBlobCollector {
+
+    private final AttachmentStorage attachmentStorage;
+    private final Duration gracePeriod;
+    private final int batchSize;
+
+    public AttachmentBlobCollector(AttachmentStorage attachmentStorage,
+                                   @Value("${attachment.gc.grace-period:PT1H}") Duration gracePeriod,
+                                   @Value("${attachment.gc.batch-size:500}") int batchSize) {
+        this.attachmentStorage = attachmentStorage;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${attachment.gc.interval:PT10M}", initialDelayString = "${attachment.gc.interval:PT10M}")
+    public void collect() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int deleted;
+        do {
+            deleted = attachmentStorage.collectGarbage(cutoff, batchSize);
+            if (deleted > 0) {
+                log.info("참조되지 않는 첨부파일 블롭 {}건 삭제", deleted);
+            }
+        } while (deleted == batchSize);
+    }
+}
@@ -0,0 +1,135 @@
+package com.fullstack.backend_api.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 첨부파일 응답 전송
+ * - Tomcat NIO 커넥터가 sendfile 을 지원하면 파일 경로/구간만 넘겨 커널이 소켓으로 직접 전송합니다. (zero-copy)
+ * - 지원하지 않으면(HTTP/2, TLS, 다른 서블릿 컨테이너 등) 서블릿 출력 스트림으로 복사하는 대체 경로를 씁니다.
+ *   이 경로는 zero-copy 가 아니며(출력 스트림을 감싼 채널이므로 JDK 가 작은 버퍼로 읽고 쓰기를 반복),
+ *   파일 전체를 힙에 올리지 않는다는 점만 보장합니다.
+ * - 단일 Range 요청(206), If-None-Match(304), If-Range 를 지원합니다.
+ *   각 요청이 독립적으로 파일을 열어 전송하므로 여러 구간을 동시에 받는 분할 다운로드도 가능합니다.
+ */
+@Component
+public class AttachmentSender {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     Path file, String fileName, String sha256) throws IOException {
+
+        long length = Files.size(file);
+        String eTag = (sha256 == null) ? null : "\"" + sha256 + "\"";
+
+        // 1. 캐시 관련 헤더 (304 응답에도 포함)
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        // 2. Range 처리 (If-Range 가 현재 ETag 와 다르면 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        int status = HttpServletResponse.SC_OK;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), eTag)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                // 여러 구간 요청(multipart/byteranges)은 전체 응답으로 처리 (RFC 9110 허용)
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || start > end) {
+                        throw new IllegalArgumentException("Range 가 파일 크기를 벗어났습니다.");
+                    }
+                    status = HttpServletResponse.SC_PARTIAL_CONTENT;
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        // 3. 응답 헤더
+        long count = end - start + 1;
+        response.setStatus(status);
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // 4. 본문 전송: sendfile (zero-copy) 우선, 불가하면 출력 스트림으로 버퍼 복사 (zero-copy 아님)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);  // end 는 제외(exclusive)
+            return;
+        }
+
+        // sendfile 미지원 시 대체 경로: 대상이 소켓 채널이 아니므로 transferTo 도 내부 버퍼 복사로 동작
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end - position + 1, out);
+            }
+        }
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 구분된 ETag 목록 (약한 비교)
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.replaceFirst("^W/", "").equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Range 가 없거나 현재 ETag 와 같을 때만 부분 응답 (날짜 형식 If-Range 는 전체 응답)
+    private static boolean ifRangeMatches(String ifRange, String eTag) {
+        return ifRange == null || (eTag != null && ifRange.trim().equals(eTag));
+    }
+}
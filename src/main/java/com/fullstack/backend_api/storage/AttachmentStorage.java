@@ -0,0 +1,237 @@
+package com.fullstack.backend_api.storage;
+
+import com.fullstack.backend_api.domain.AttachmentBlob;
+import com.fullstack.backend_api.exception.PayloadTooLargeException;
+import com.fullstack.backend_api.repository.AttachmentBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 첨부파일 저장소 (로컬 디렉터리, 내용 주소 방식)
+ * - 요청 본문을 고정 크기 버퍼로 읽으면서 FileChannel 에 바로 기록하므로 파일 전체를 메모리에 올리지 않습니다.
+ * - 기록하는 동안 SHA-256 을 함께 계산하고, 최대 크기를 넘는 순간 중단합니다.
+ * - 임시 파일에 기록 → 디스크 동기화(force) → 해시 기반 경로(ab/abcdef...)로 원자적 이동 순서로 처리합니다.
+ *   같은 내용의 파일이 이미 있으면 임시 파일을 버리고 기존 블롭의 참조 수만 올립니다. (중복 저장 없음)
+ * - 블롭 등록과 GC 삭제는 해시별 잠금(stripe)으로 직렬화하여, 중복 업로드가 참조하려는 파일을
+ *   GC 가 동시에 지우지 않도록 합니다. (단일 인스턴스 기준)
+ */
+@Slf4j
+@Component
+public class AttachmentStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final Path tempDir;
+    private final long maxBytes;
+    private final AttachmentBlobRepository blobRepository;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public AttachmentStorage(@Value("${attachment.storage-dir:${user.dir}/uploads}") String storageDir,
+                             @Value("${attachment.max-size:20MB}") DataSize maxSize,
+                             AttachmentBlobRepository blobRepository) throws IOException {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.tempDir = root.resolve(".tmp");
+        this.maxBytes = maxSize.toBytes();
+        this.blobRepository = blobRepository;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        Files.createDirectories(tempDir);
+    }
+
+    /**
+     * 선언된 Content-Length 로 미리 크기를 검사합니다. (본문을 읽기 전에 413 응답)
+     */
+    public void checkDeclaredSize(Long contentLength) {
+        if (contentLength != null && contentLength > maxBytes) {
+            throw new PayloadTooLargeException(maxBytes);
+        }
+    }
+
+    /**
+     * 입력 스트림을 끝까지 읽어 블롭으로 저장하고 참조 수를 1 올립니다. 스트림은 호출자가 닫습니다.
+     * 반환된 블롭을 더 이상 쓰지 않게 되면(게시글 저장 실패, 삭제) 반드시 release 를 호출해야 합니다.
+     * @throws PayloadTooLargeException 최대 크기 초과 (임시 파일은 삭제됨)
+     */
+    public StoredAttachment store(InputStream in, String originalFileName) throws IOException {
+        Path temp = tempDir.resolve(UUID.randomUUID().toString());
+        MessageDigest digest = sha256();
+        long size = 0;
+
+        try {
+            ReadableByteChannel source = Channels.newChannel(in);
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                int read;
+                while ((read = source.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new PayloadTooLargeException(maxBytes);
+                    }
+                    buffer.flip();
+                    digest.update(buffer.array(), 0, buffer.limit());
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                target.force(true);  // 내용이 디스크에 기록된 후에만 이동
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String storedName = blobName(hash);
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                Path blob = resolve(storedName);
+                boolean created = !Files.exists(blob);
+                if (created) {
+                    Files.createDirectories(blob.getParent());
+                    Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                    syncDirectory(blob.getParent());
+                }
+                try {
+                    if (blobRepository.incrementRefCount(hash) == 0) {
+                        blobRepository.save(new AttachmentBlob(hash, size));
+                    }
+                } catch (RuntimeException e) {
+                    if (created) {
+                        Files.deleteIfExists(blob);  // 등록하지 못한 새 블롭은 남기지 않음
+                    }
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return new StoredAttachment(storedName, sanitize(originalFileName), resolve(storedName), size, hash);
+        } finally {
+            Files.deleteIfExists(temp);  // 중복 업로드이거나 실패한 경우의 임시 파일
+        }
+    }
+
+    /**
+     * 블롭 참조를 1 해제합니다. 호출자의 트랜잭션이 있으면 그 안에서 처리됩니다.
+     * 파일은 즉시 삭제하지 않고, 유예 시간이 지난 뒤 GC 가 정리합니다.
+     */
+    public void release(String hash) {
+        if (hash != null) {
+            blobRepository.decrementRefCount(hash, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 참조가 0 이 된 뒤 cutoff 이전부터 다시 참조되지 않은 블롭의 행과 파일을 삭제합니다.
+     * @return 삭제한 블롭 수
+     */
+    public int collectGarbage(LocalDateTime cutoff, int batchSize) {
+        List<String> hashes = blobRepository.findCollectableHashes(cutoff, PageRequest.of(0, batchSize));
+        int deleted = 0;
+        for (String hash : hashes) {
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                if (blobRepository.deleteIfUnreferenced(hash) == 1) {
+                    Files.deleteIfExists(resolve(blobName(hash)));
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("첨부파일 블롭 삭제 실패: {}", hash, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 다운로드용 파일 조회
+     * 저장소 밖을 가리키는 이름(이전 방식의 "/files/..." 경로 등), 잘못된 경로, 없는 파일이면 empty 를 반환합니다.
+     */
+    public Optional<Path> find(String storedName) {
+        Path path;
+        try {
+            path = root.resolve(storedName).normalize();
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+        if (!path.startsWith(root) || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+
+    public Path resolve(String storedName) {
+        Path path = root.resolve(storedName).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalStateException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    // 해시 앞 2자리로 디렉터리를 나눠 한 디렉터리에 파일이 몰리지 않도록 함 (예: ab/abcdef...)
+    static String blobName(String hash) {
+        return hash.substring(0, 2) + "/" + hash;
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 이동(rename) 결과도 디스크에 반영되도록 디렉터리 동기화 (지원하지 않는 OS 에서는 생략)
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 원본 파일명에서 경로 구분자/제어 문자를 제거 (응답 헤더 등에 그대로 쓰이지 않도록)
+    private static String sanitize(String originalFileName) {
+        String name = (originalFileName == null || originalFileName.isBlank()) ? "file" : originalFileName;
+        name = name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_");
+        if (name.startsWith(".")) {
+            name = "_" + name;
+        }
+        return name.length() > MAX_NAME_LENGTH ? name.substring(name.length() - MAX_NAME_LENGTH) : name;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 필수 지원 알고리즘이므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
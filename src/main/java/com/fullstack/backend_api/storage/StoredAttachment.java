@@ -0,0 +1,15 @@
+package com.fullstack.backend_api.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 저장소에 기록이 끝난 첨부파일 정보
+ *
+ * @param storedName   저장소 기준 블롭 경로 (ab/abcdef..., SHA-256 기반 ASCII)
+ * @param originalName 업로드한 원본 파일명 (다운로드 시 표시용)
+ * @param path         저장된 파일의 절대 경로
+ * @param size         파일 크기 (bytes)
+ * @param sha256       내용의 SHA-256 (16진수 소문자)
+ */
+public record StoredAttachment(String storedName, String originalName, Path path, long size, String sha256) {
+}
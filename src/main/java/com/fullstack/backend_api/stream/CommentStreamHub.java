@@ -0,0 +1,345 @@
+package com.fullstack.backend_api.stream;
+
+import com.fullstack.backend_api.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글별 댓글 변경 SSE 구독 허브
+ * - 구독자마다 스레드를 두지 않습니다. 대기 중인 연결은 SseEmitter 와 작은 큐만 차지하고,
+ *   보낼 이벤트가 생긴 구독자만 공유 executor(가상 스레드)에서 큐를 비웁니다.
+ * - 구독자 큐는 buffer-size 개로 제한합니다. 느린 구독자의 큐가 넘치면 연결을 끊고,
+ *   클라이언트(EventSource)가 Last-Event-ID 로 다시 연결하면 놓친 이벤트를 이어서 받습니다.
+ * - 게시글마다 최근 buffer-size 개 이벤트를 보관하여 Last-Event-ID 이후 이벤트를 다시 보냅니다.
+ *   놓친 이벤트가 보관 범위를 벗어났거나 재시작 전 ID 이면 reset 이벤트를 보내 목록을 다시 조회하게 합니다.
+ * - 이벤트 JSON 은 게시글당 한 번만 직렬화하고 모든 구독자가 같은 문자열을 보냅니다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    static final String RESET = "reset";
+
+    // 이벤트 ID = "<기동 시각>-<순번>" (재시작 전 ID 로 이어받으려 하면 구분하기 위함)
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("comment-stream-", 0).factory());
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long retentionNanos;
+
+    public CommentStreamHub(@Value("${comment.stream.buffer-size:100}") int bufferSize,
+                            @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${comment.stream.timeout:PT30M}") Duration timeout,
+                            @Value("${comment.stream.replay-retention:PT5M}") Duration replayRetention) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.retentionNanos = replayRetention.toNanos();
+    }
+
+    /**
+     * 게시글 댓글 변경 구독
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (처음 연결이면 null)
+     * @throws ServiceUnavailableException 동시 구독자 수 초과
+     */
+    public SseEmitter subscribe(Long postId, String lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("실시간 댓글 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        // 보관 이벤트 재전송과 구독 등록을 게시글 채널 안에서 한 번에 처리 (그 사이에 발행된 이벤트를 놓치지 않음)
+        Channel channel = channels.compute(postId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel(sequence.get());
+            target.join(subscriber, lastEventId);
+            return target;
+        });
+        emitter.onCompletion(() -> leave(channel, subscriber));
+        emitter.onTimeout(emitter::complete);  // 클라이언트가 Last-Event-ID 로 다시 연결
+        return emitter;
+    }
+
+    /**
+     * 구독 중이거나 재연결을 위해 이벤트를 보관 중인 게시글인지 (아니면 이벤트 본문을 만들 필요 없음)
+     */
+    public boolean isWatched(Long postId) {
+        return channels.containsKey(postId);
+    }
+
+    /**
+     * 게시글 구독자에게 이벤트 발행 (구독자 큐에 넣기만 하고 전송을 기다리지 않음)
+     * @param json 이미 직렬화된 이벤트 데이터
+     */
+    public void publish(Long postId, String name, String json) {
+        channels.computeIfPresent(postId, (id, channel) -> {
+            channel.append(new Event(sequence.incrementAndGet(), name, json));
+            return channel;
+        });
+    }
+
+    /**
+     * 게시글 삭제: 구독을 모두 끝내고 보관 이벤트도 버림
+     */
+    public void close(Long postId) {
+        Channel channel = channels.remove(postId);
+        if (channel != null) {
+            channel.subscribers().forEach(Subscriber::close);
+        }
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트를 보내고, 끊어진 연결을 정리합니다.
+     * 구독자가 없고 replay-retention 동안 재연결도 없던 게시글의 보관 이벤트는 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        long idleBefore = System.nanoTime() - retentionNanos;
+        for (Long postId : channels.keySet()) {
+            Channel channel = channels.computeIfPresent(postId,
+                    (id, existing) -> existing.isIdleSince(idleBefore) ? null : existing);
+            if (channel != null) {
+                channel.subscribers().forEach(subscriber -> subscriber.offer(Event.HEARTBEAT));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers().forEach(Subscriber::close));
+        channels.clear();
+        sender.shutdown();
+    }
+
+    private void leave(Channel channel, Subscriber subscriber) {
+        if (channel.leave(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    // 같은 epoch 의 ID 면 순번, 아니면(다른 프로세스, 형식 오류) -1
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Event(long seq, String name, String json) {
+
+        static final Event HEARTBEAT = new Event(0, null, null);
+    }
+
+    /**
+     * 게시글 하나의 구독자 목록과 최근 이벤트 보관함
+     * (발행은 아웃박스 디스패처, 구독/해제는 요청 스레드, 정리는 스케줄러 스레드에서 호출)
+     */
+    private final class Channel {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private final ArrayDeque<Event> recent = new ArrayDeque<>();
+        // 이 순번 이후의 이 게시글 이벤트는 모두 recent 에 있음 (채널 생성 시점 또는 마지막으로 버린 이벤트)
+        private long retainedAfter;
+        private long lastLeftNanos = System.nanoTime();
+
+        Channel(long retainedAfter) {
+            this.retainedAfter = retainedAfter;
+        }
+
+        void join(Subscriber subscriber, String lastEventId) {
+            lock.lock();
+            try {
+                subscribers.add(subscriber);
+                if (lastEventId != null) {
+                    replay(subscriber, parseSequence(lastEventId));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 놓친 이벤트를 모두 보관하고 있으면 이어서 보내고, 아니면 reset 이후부터 받도록 함
+        private void replay(Subscriber subscriber, long lastSeq) {
+            long latest = recent.isEmpty() ? retainedAfter : recent.peekLast().seq();
+            if (lastSeq < retainedAfter || lastSeq > latest) {
+                subscriber.offer(new Event(latest, RESET, "{}"));
+                return;
+            }
+            for (Event event : recent) {
+                if (event.seq() > lastSeq) {
+                    subscriber.offer(event);
+                }
+            }
+        }
+
+        void append(Event event) {
+            lock.lock();
+            try {
+                if (recent.size() == bufferSize) {
+                    retainedAfter = recent.removeFirst().seq();
+                }
+                recent.addLast(event);
+                subscribers.forEach(subscriber -> subscriber.offer(event));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean leave(Subscriber subscriber) {
+            lock.lock();
+            try {
+                lastLeftNanos = System.nanoTime();
+                return subscribers.remove(subscriber);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Subscriber> subscribers() {
+            lock.lock();
+            try {
+                return List.copyOf(subscribers);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isIdleSince(long nanos) {
+            lock.lock();
+            try {
+                return subscribers.isEmpty() && lastLeftNanos - nanos < 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 구독자 하나의 전송 대기 큐 (최대 buffer-size 개)
+     * 큐가 비어 있다가 이벤트가 들어올 때만 전송 작업을 executor 에 넣으므로 구독자당 전송 작업은 최대 하나입니다.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Event> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Event event) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= bufferSize) {
+                    // 느린 구독자: 쌓인 이벤트를 버리고 연결 종료 (재연결 시 Last-Event-ID 로 이어받음)
+                    queue.clear();
+                    closed = true;
+                } else {
+                    queue.addLast(event);
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                emitter.complete();  // 종료 중
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                queue.clear();
+                closed = true;
+            } finally {
+                lock.unlock();
+            }
+            emitter.complete();
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                lock.lock();
+                try {
+                    event = queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        if (closed) {
+                            break;
+                        }
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    emitter.send(toSse(event));
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊었거나 이미 완료된 연결
+                    log.debug("댓글 스트림 전송 실패: {}", e.toString());
+                    close();
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private SseEmitter.SseEventBuilder toSse(Event event) {
+            if (event == Event.HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(eventId(event.seq())).name(event.name()).data(event.json());
+        }
+    }
+}
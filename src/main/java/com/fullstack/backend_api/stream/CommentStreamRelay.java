@@ -0,0 +1,74 @@
+package com.fullstack.backend_api.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.dto.CommentResponseDto;
+import com.fullstack.backend_api.outbox.OutboxEventHandler;
+import com.fullstack.backend_api.repository.CommentRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 댓글 변경 이벤트를 해당 게시글의 SSE 구독자에게 전달합니다.
+ * - 구독자가 없는 게시글은 댓글을 조회하지 않고 넘어갑니다.
+ * - 작성/수정은 처리 시점의 댓글을 다시 조회하여 보내고, 그 사이 삭제되었으면 뒤따르는 삭제 이벤트만 보냅니다.
+ * - 아웃박스 재전달로 같은 이벤트를 두 번 받을 수 있으므로 클라이언트는 댓글 ID 기준으로 반영(추가/교체/삭제)합니다.
+ */
+@Component
+public class CommentStreamRelay implements OutboxEventHandler {
+
+    static final String CREATED = "comment-created";
+    static final String UPDATED = "comment-updated";
+    static final String DELETED = "comment-deleted";
+
+    private final CommentStreamHub commentStreamHub;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    public CommentStreamRelay(CommentStreamHub commentStreamHub, CommentRepository commentRepository,
+                              ObjectMapper objectMapper) {
+        this.commentStreamHub = commentStreamHub;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(OutboxEvent.Type type) {
+        return type == OutboxEvent.Type.COMMENT_CREATED
+                || type == OutboxEvent.Type.COMMENT_UPDATED
+                || type == OutboxEvent.Type.COMMENT_DELETED
+                || type == OutboxEvent.Type.POST_DELETED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Long postId = event.getPostId();
+        if (event.getType() == OutboxEvent.Type.POST_DELETED) {
+            commentStreamHub.close(postId);
+            return;
+        }
+        if (!commentStreamHub.isWatched(postId)) {
+            return;
+        }
+
+        switch (event.getType()) {
+            case COMMENT_CREATED, COMMENT_UPDATED -> commentRepository.findWithAuthorById(event.getCommentId())
+                    .map(CommentResponseDto::from)
+                    .ifPresent(comment -> commentStreamHub.publish(postId,
+                            event.getType() == OutboxEvent.Type.COMMENT_CREATED ? CREATED : UPDATED, toJson(comment)));
+            case COMMENT_DELETED -> commentStreamHub.publish(postId, DELETED, toJson(Map.of("id", event.getCommentId())));
+            default -> throw new IllegalArgumentException("지원하지 않는 이벤트입니다 : " + event.getType());
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
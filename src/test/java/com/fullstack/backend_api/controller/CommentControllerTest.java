@@ -4,10 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullstack.backend_api.dto.CommentUpdateRequest;
 import com.fullstack.backend_api.exception.GlobalExceptionHandler;
 import com.fullstack.backend_api.exception.PermissionDeniedException;
-import com.fullstack.backend_api.provider.JwtTokenProvider;
+import com.fullstack.backend_api.service.CommentBulkService;
 import com.fullstack.backend_api.service.CommentService;
 import com.fullstack.backend_api.dto.CommentCreateRequest;
 import com.fullstack.backend_api.dto.CommentResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import com.fullstack.backend_api.service.JwtService;
 import com.fullstack.backend_api.service.PostUserDetailsService;
 import org.junit.jupiter.api.DisplayName;
@@ -17,15 +18,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -33,7 +39,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 // WebMvcTest를 사용하여 Controller 레이어만 테스트하고 Service는 Mock 처리합니다.
@@ -52,14 +60,15 @@ class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private CommentBulkService commentBulkService;
+
     @MockBean
     private JwtService jwtService;
 
     @MockBean
     private PostUserDetailsService postUserDetailsService;
 
-    @MockBean
-    private JwtTokenProvider jwtTokenProvider;
 
     private static final Long TEST_USER_ID = 1L;
     private static final Long POST_ID = 10L;
@@ -147,6 +156,68 @@ class CommentControllerTest {
         // verify(commentService, never()).createComment(any(), any(), any());
     }
 
+    @Test
+    @DisplayName("3-0. 댓글 목록 조회: 변경이 없으면(If-None-Match 일치) 목록 조회 없이 304")
+    @WithMockUser(username = "1", roles = "USER")
+    void getCommentsByPostId_notModified() throws Exception {
+        // Given
+        Long POST_ID = 10L;
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 1, 1, 12, 0), 3L);
+        when(commentService.getCommentsVersion(eq(POST_ID))).thenReturn(Optional.of(version));
+
+        // When & Then
+        mockMvc.perform(get(API_URL_PATTERN, POST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.eTag("comments", POST_ID, PageRequest.of(0, 20))))
+                .andExpect(status().isNotModified());
+
+        verify(commentService, never()).getCommentsByPostId(eq(POST_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("3-0-1. 댓글 목록 조회: 버전이 같아도 다른 페이지/크기/정렬의 ETag 로는 304 가 아님")
+    @WithMockUser(username = "1", roles = "USER")
+    void getCommentsByPostId_eTagIncludesPageAndSort() throws Exception {
+        // Given
+        Long POST_ID = 10L;
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 1, 1, 12, 0), 3L);
+        String firstPageTag = version.eTag("comments", POST_ID, PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")));
+        when(commentService.getCommentsVersion(eq(POST_ID))).thenReturn(Optional.of(version));
+        when(commentService.getCommentsByPostId(eq(POST_ID), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 5), 0));
+
+        // When & Then: 같은 요청은 304
+        mockMvc.perform(get(API_URL_PATTERN, POST_ID).param("page", "0").param("size", "5").param("sort", "createdAt,desc")
+                        .header(HttpHeaders.IF_NONE_MATCH, firstPageTag))
+                .andExpect(status().isNotModified());
+
+        // 페이지 번호 / 크기 / 정렬이 다르면 200
+        mockMvc.perform(get(API_URL_PATTERN, POST_ID).param("page", "1").param("size", "5").param("sort", "createdAt,desc")
+                        .header(HttpHeaders.IF_NONE_MATCH, firstPageTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(firstPageTag)));
+        mockMvc.perform(get(API_URL_PATTERN, POST_ID).param("page", "0").param("size", "10").param("sort", "createdAt,desc")
+                        .header(HttpHeaders.IF_NONE_MATCH, firstPageTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(API_URL_PATTERN, POST_ID).param("page", "0").param("size", "5").param("sort", "createdAt,asc")
+                        .header(HttpHeaders.IF_NONE_MATCH, firstPageTag))
+                .andExpect(status().isOk());
+        verify(commentService, times(3)).getCommentsByPostId(eq(POST_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("3-0-2. 댓글 커서 조회: 형식이 잘못된 커서는 400")
+    @WithMockUser(username = "1", roles = "USER")
+    void getCommentsByCursor_malformedCursor_badRequest() throws Exception {
+        // Given
+        Long POST_ID = 10L;
+        when(commentService.getCommentsByCursor(eq(POST_ID), eq("broken"), anyInt()))
+                .thenThrow(new IllegalStateException("유효하지 않은 커서입니다."));
+
+        // When & Then
+        mockMvc.perform(get(API_URL_PATTERN + "/cursor", POST_ID).param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("유효하지 않은 커서입니다."));
+    }
+
     @Test
     @DisplayName("3-1. 댓글 목록 조회 성공: Pageable 파라미터 및 응답 형식 검증")
     @WithMockUser(username = "1", roles = "USER")
@@ -315,4 +386,21 @@ class CommentControllerTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("6-1. 댓글 실시간 구독: text/event-stream 비동기 응답, Last-Event-ID 헤더 전달")
+    @WithMockUser(username = "1", roles = "USER")
+    void streamComments_asyncWithLastEventId() throws Exception {
+        // Given
+        Long POST_ID = 10L;
+        when(commentService.subscribeComments(eq(POST_ID), eq("abc-7"))).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get(API_URL_PATTERN + "/stream", POST_ID)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "abc-7"))
+                .andExpect(request().asyncStarted());
+
+        verify(commentService, times(1)).subscribeComments(POST_ID, "abc-7");
+    }
+
+}
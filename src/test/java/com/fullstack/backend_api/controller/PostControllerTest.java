@@ -5,14 +5,17 @@ import com.fullstack.backend_api.BackendApiApplication;
 import com.fullstack.backend_api.domain.Member;
 import com.fullstack.backend_api.dto.PostRequestDto;
 import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
 import com.fullstack.backend_api.exception.GlobalExceptionHandler;
+import com.fullstack.backend_api.exception.PayloadTooLargeException;
 import com.fullstack.backend_api.exception.ResourceNotFoundException;
-import com.fullstack.backend_api.provider.JwtTokenProvider;
 import com.fullstack.backend_api.repository.PostRepository;
 import com.fullstack.backend_api.repository.UserRepository;
 import com.fullstack.backend_api.service.JwtService;
 import com.fullstack.backend_api.service.PostService;
 import com.fullstack.backend_api.service.PostUserDetailsService;
+import com.fullstack.backend_api.storage.AttachmentSender;
+import com.fullstack.backend_api.storage.AttachmentStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,7 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -49,7 +53,11 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -62,6 +70,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -91,6 +101,12 @@ public class PostControllerTest {
     @MockBean
     private PostService postService;
 
+    @MockBean
+    private AttachmentStorage attachmentStorage;
+
+    @MockBean
+    private AttachmentSender attachmentSender;
+
     @MockBean
     private UserRepository userRepository;
 
@@ -100,8 +116,6 @@ public class PostControllerTest {
     @MockBean
     private PostUserDetailsService postUserDetailsService;
 
-    @MockBean
-    private JwtTokenProvider jwtTokenProvider;
 
     @MockBean
     private AuthenticationManager authenticationManager;
@@ -268,6 +282,32 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.id").value(postId));
     }
 
+    @Test
+    @DisplayName("게시글 단건 조회: ETag 일치 시 본문 조회 없이 304 Not Modified")
+    void getPost_notModified() throws Exception {
+        // Given
+        Long postId = 1L;
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2024, 1, 1, 12, 0), 0L);
+        when(postService.getPostVersion(eq(postId))).thenReturn(Optional.of(version));
+        when(postService.getPost(eq(postId))).thenReturn(PostResponseDto.builder().id(postId).build());
+
+        // 첫 요청: 200 + ETag / Last-Modified
+        String eTag = mockMvc.perform(get(API_BASE_URL + "/{postId}", postId)
+                        .with(withAuthUser(TEST_USER_NAME)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then: 같은 ETag 로 다시 요청하면 304, 본문 없음
+        mockMvc.perform(get(API_BASE_URL + "/{postId}", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .with(withAuthUser(TEST_USER_NAME)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(postService, times(1)).getPost(eq(postId));
+    }
+
     @Test
     @DisplayName("게시글 단건 조회 실패: (404 Not Found, 데이터 없음)")
     void getPost_notFound() throws Exception {
@@ -462,4 +502,51 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.title").value("파일 제목"));
     }
 
+    @Test
+    @DisplayName("스트리밍 업로드 성공: 요청 본문과 디코딩된 파일명을 서비스로 전달 (201 Created)")
+    void uploadPost_success() throws Exception {
+        // Given
+        PostResponseDto responseDto = PostResponseDto.builder()
+                .id(1L)
+                .title("파일 제목")
+                .author(TEST_USER_NAME)
+                .build();
+        when(postService.createPostWithStream(any(PostRequestDto.class), anyString(), any(InputStream.class), eq("보고서.pdf")))
+                .thenReturn(responseDto);
+
+        // When & Then
+        mockMvc.perform(post(API_BASE_URL + "/upload")
+                        .param("title", "파일 제목")
+                        .param("content", "파일 내용")
+                        .header("X-File-Name", URLEncoder.encode("보고서.pdf", StandardCharsets.UTF_8))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("file-bytes".getBytes(StandardCharsets.UTF_8))
+                        .with(csrf())
+                        .with(withAuthUser(TEST_USER_NAME, "USER")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title").value("파일 제목"));
+
+        verify(attachmentStorage).checkDeclaredSize(10L);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 실패: 선언된 크기가 제한을 넘으면 본문을 읽기 전에 413")
+    void uploadPost_tooLarge() throws Exception {
+        // Given
+        doThrow(new PayloadTooLargeException(5L)).when(attachmentStorage).checkDeclaredSize(10L);
+
+        // When & Then
+        mockMvc.perform(post(API_BASE_URL + "/upload")
+                        .param("title", "파일 제목")
+                        .param("content", "파일 내용")
+                        .header("X-File-Name", "a.bin")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("file-bytes".getBytes(StandardCharsets.UTF_8))
+                        .with(csrf())
+                        .with(withAuthUser(TEST_USER_NAME, "USER")))
+                .andExpect(status().isPayloadTooLarge());
+
+        verify(postService, never()).createPostWithStream(any(), anyString(), any(), anyString());
+    }
+
 }
@@ -0,0 +1,160 @@
+package com.fullstack.backend_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullstack.backend_api.config.SecurityConfig;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.exception.GlobalExceptionHandler;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.service.JwtService;
+import com.fullstack.backend_api.service.PostService;
+import com.fullstack.backend_api.service.PostUserDetailsService;
+import com.fullstack.backend_api.service.TokenClaims;
+import com.fullstack.backend_api.storage.AttachmentSender;
+import com.fullstack.backend_api.storage.AttachmentStorage;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 실제 SecurityConfig(JWT 필터, ASYNC 재디스패치 허용)를 적용하여 최초 디스패치에서 인증되는지 확인
+@WebMvcTest(PostController.class)
+@Import({SecurityConfig.class, GlobalExceptionHandler.class})
+@DisplayName("게시글 전체 내보내기(스트리밍) 테스트 (JSON / NDJSON, 인증)")
+class PostExportControllerTest {
+
+    private static final String EXPORT_URL = "/api/posts/posts";
+    private static final String TOKEN = "valid-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PostService postService;
+
+    @MockBean
+    private AttachmentStorage attachmentStorage;
+
+    @MockBean
+    private AttachmentSender attachmentSender;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private PostUserDetailsService postUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        // 유효한 Bearer 토큰 하나만 인증되도록 JWT 필터의 협력 객체 설정
+        Member user = Member.builder().id(1L).username("testuser").password("").role("ROLE_USER").build();
+        TokenClaims claims = new TokenClaims("testuser", 1L, List.of("ROLE_USER"), Instant.now().plusSeconds(60));
+        when(jwtService.extractAllClaims(TOKEN)).thenReturn(claims);
+        when(postUserDetailsService.loadUserByClaims(claims)).thenReturn(user);
+        when(jwtService.validationToken(claims, user)).thenReturn(true);
+
+        // exportAll 은 3 건을 sink 로 전달
+        when(postService.exportAll(any())).thenAnswer(invocation -> {
+            Consumer<PostResponseDto> sink = invocation.getArgument(0);
+            for (long id = 1; id <= 3; id++) {
+                sink.accept(PostResponseDto.builder()
+                        .id(id)
+                        .title("제목 " + id)
+                        .content("내용 " + id)
+                        .author("testuser")
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                        .build());
+            }
+            return 3L;
+        });
+    }
+
+    @Test
+    @DisplayName("JSON: 여러 건이 하나의 올바른 JSON 배열로 전송")
+    void export_json_wellFormedArray() throws Exception {
+        // When
+        String body = export(MediaType.APPLICATION_JSON);
+
+        // Then
+        PostResponseDto[] exported = objectMapper.readValue(body, PostResponseDto[].class);
+        assertThat(exported).extracting(PostResponseDto::getId).containsExactly(1L, 2L, 3L);
+        assertThat(exported).extracting(PostResponseDto::getTitle).containsExactly("제목 1", "제목 2", "제목 3");
+    }
+
+    @Test
+    @DisplayName("NDJSON: Accept 가 application/x-ndjson 이면 한 줄에 한 건씩")
+    void export_ndjson_oneObjectPerLine() throws Exception {
+        // When
+        String body = export(MediaType.APPLICATION_NDJSON);
+
+        // Then
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.size(); i++) {
+            assertThat(objectMapper.readValue(lines.get(i), PostResponseDto.class).getId()).isEqualTo(i + 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("미인증 / 잘못된 토큰: 최초 디스패치에서 거부되어 스트리밍을 시작하지 않음")
+    void export_unauthenticated_rejectedOnFirstDispatch() throws Exception {
+        // Given
+        when(jwtService.extractAllClaims("invalid-token")).thenThrow(new JwtException("서명 오류"));
+
+        // When & Then
+        mockMvc.perform(get(EXPORT_URL).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+        mockMvc.perform(get(EXPORT_URL).accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer invalid-token"))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+
+        verify(postService, never()).exportAll(any());
+    }
+
+    // 최초 디스패치(인증) -> 비동기 시작 -> ASYNC 재디스패치 후 응답 본문
+    private String export(MediaType accept) throws Exception {
+        MvcResult started = mockMvc.perform(get(EXPORT_URL)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                        .accept(accept))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -24,7 +24,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "search.index-dir=")  // 다른 @SpringBootTest 컨텍스트와 디스크 색인 잠금을 다투지 않도록 메모리 색인
 @AutoConfigureMockMvc
 @Transactional
 @DisplayName("게시글 통합 테스트")
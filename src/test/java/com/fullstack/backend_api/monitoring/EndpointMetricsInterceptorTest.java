@@ -0,0 +1,142 @@
+package com.fullstack.backend_api.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EndpointMetricsInterceptor 단위 테스트")
+class EndpointMetricsInterceptorTest {
+
+    private MeterRegistry registry;
+    private EndpointMetricsInterceptor interceptor;
+    private HandlerMethod handler;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        registry = new SimpleMeterRegistry();
+        interceptor = new EndpointMetricsInterceptor(registry);
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+        request = new MockHttpServletRequest("GET", "/api/samples");
+        response = new MockHttpServletResponse();
+        // DispatcherServlet 이 요청마다 바인딩하는 현재 요청 (JdbcStatementListener 가 카운터를 찾는 경로)
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 문 수와 커넥션 대기를 엔드포인트 태그로 기록")
+    void afterCompletion_recordsStatementsPerEndpoint() {
+        // Given
+        JdbcStatementListener listener = new JdbcStatementListener();
+
+        // When
+        interceptor.preHandle(request, response, handler);
+        listener.jdbcConnectionAcquisitionStart();
+        listener.jdbcConnectionAcquisitionEnd();
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        DistributionSummary statements = registry.get("http.endpoint.jdbc.statements")
+                .tag("endpoint", "SampleController.list").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(registry.get("http.endpoint.latency").tag("endpoint", "SampleController.list").timer().count()).isEqualTo(1);
+        assertThat(registry.get("http.endpoint.connection.wait").tag("endpoint", "SampleController.list").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖(스케줄러 등)에서 실행된 SQL 은 다음 요청에 합산되지 않음")
+    void statementsOutsideRequest_areIgnored() {
+        // Given: 이전 요청이 끝난 뒤 같은 스레드에서 실행된 SQL
+        JdbcStatementListener listener = new JdbcStatementListener();
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        // When
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        DistributionSummary statements = registry.get("http.endpoint.jdbc.statements")
+                .tag("endpoint", "SampleController.list").summary();
+        assertThat(statements.count()).isEqualTo(2);
+        assertThat(statements.totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("카운터는 요청 속성에 두고 완료 후 떼어 풀에 반납, 다음 요청이 재사용")
+    void stats_pooledPerRequestAttribute() {
+        // Given
+        interceptor.preHandle(request, response, handler);
+        Object first = request.getAttribute(RequestJdbcStats.ATTRIBUTE);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // When
+        MockHttpServletRequest next = new MockHttpServletRequest("GET", "/api/samples");
+        interceptor.preHandle(next, response, handler);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(request.getAttribute(RequestJdbcStats.ATTRIBUTE)).isNull();
+        assertThat(next.getAttribute(RequestJdbcStats.ATTRIBUTE)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("비동기 응답: 최초 요청부터 ASYNC 재디스패치 완료까지를 한 번 기록, 카운터는 풀에 반납하지 않음")
+    void asyncRequest_recordedAcrossAsyncDispatch() throws Exception {
+        // Given
+        JdbcStatementListener listener = new JdbcStatementListener();
+
+        // When: 최초 요청 -> 비동기 전환 -> (요청이 바인딩된 작업 스레드의 SQL) -> ASYNC 재디스패치
+        interceptor.preHandle(request, response, handler);
+        Object stats = request.getAttribute(RequestJdbcStats.ATTRIBUTE);
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertThat(registry.get("http.endpoint.latency").tag("endpoint", "SampleController.list").timer().count()).isEqualTo(1);
+        DistributionSummary statements = registry.get("http.endpoint.jdbc.statements")
+                .tag("endpoint", "SampleController.list").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(request.getAttribute(RequestJdbcStats.ATTRIBUTE)).isNull();
+
+        MockHttpServletRequest next = new MockHttpServletRequest("GET", "/api/samples");
+        interceptor.preHandle(next, response, handler);
+        assertThat(next.getAttribute(RequestJdbcStats.ATTRIBUTE)).isNotSameAs(stats);
+    }
+
+    static class SampleController {
+        public String list() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.fullstack.backend_api.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryLogRingBuffer 단위 테스트")
+class QueryLogRingBufferTest {
+
+    @Test
+    @DisplayName("크기는 2의 거듭제곱으로 올리고, 가득 차면 offer 가 false")
+    void offer_returnsFalseWhenFull() {
+        // Given
+        QueryLogRingBuffer<Integer> buffer = new QueryLogRingBuffer<>(3);
+
+        // When
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // Then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(99)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();  // 소비한 자리만큼 다시 기록 가능
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 비어 있으면 null")
+    void poll_returnsInFifoOrder() {
+        // Given
+        QueryLogRingBuffer<String> buffer = new QueryLogRingBuffer<>(8);
+        buffer.offer("a");
+        buffer.offer("b");
+
+        // When & Then
+        assertThat(buffer.poll()).isEqualTo("a");
+        assertThat(buffer.poll()).isEqualTo("b");
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 기록해도 유실/중복 없이 소비")
+    void concurrentProducers_noLossOrDuplication() throws Exception {
+        // Given
+        int producers = 4;
+        int perProducer = 20_000;
+        QueryLogRingBuffer<Integer> buffer = new QueryLogRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();  // 가득 차면 소비될 때까지 재시도 (테스트 전용)
+                    }
+                }
+            }));
+        }
+
+        // When
+        start.countDown();
+        Set<Integer> consumed = new HashSet<>();
+        while (consumed.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertThat(consumed.add(value)).isTrue();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullstack.backend_api.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("QueryLogger 단위 테스트")
+class QueryLoggerTest {
+
+    @Test
+    @DisplayName("느린 SQL 은 전체 문장을 기록하고, 샘플링 0 이면 빠른 SQL 은 기록하지 않음")
+    void slowQueriesAreLogged_fastQueriesAreNotSampled(CapturedOutput output) {
+        // Given
+        QueryLogger queryLogger = new QueryLogger(Duration.ofMillis(50), 0, 64);
+        queryLogger.start();
+
+        // When
+        try {
+            QueryLogger.statementPrepared("select slow_column from post");
+            QueryLogger.statementExecuted(TimeUnit.MILLISECONDS.toNanos(120));
+            QueryLogger.statementPrepared("select fast_column from post");
+            QueryLogger.statementExecuted(TimeUnit.MILLISECONDS.toNanos(1));
+        } finally {
+            queryLogger.stop();  // 남은 항목을 모두 기록한 뒤 종료
+        }
+
+        // Then
+        assertThat(output).contains("slow query 120.0ms : select slow_column from post");
+        assertThat(output).doesNotContain("fast_column");
+    }
+}
@@ -0,0 +1,165 @@
+package com.fullstack.backend_api.outbox;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.repository.OutboxEventRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+// 디스패처가 커밋된 이벤트만 읽으므로 테스트 트랜잭션으로 감싸지 않고, 데이터는 @AfterEach 에서 정리
+@DataJpaTest(properties = {"outbox.max-attempts=3", "outbox.retry.initial-backoff=PT0S"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, RepositoryTestConfig.class, OutboxPublisher.class, OutboxDispatcher.class,
+        OutboxDispatcherTest.HandlerConfig.class})
+@DisplayName("아웃박스 기록/전달 테스트 (같은 트랜잭션 기록, 커밋 후 전달, 재시도)")
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        handler.handled.clear();
+    }
+
+    @Test
+    @DisplayName("커밋되면 폴링을 기다리지 않고 전달되고, 전달된 이벤트는 삭제")
+    void publishedEvent_deliveredAfterCommit() {
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                outboxPublisher.publish(OutboxEvent.Type.COMMENT_CREATED, 1L, 10L));
+
+        // Then: 커밋 직후 디스패처 스레드가 깨어나 전달
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(handler.handled).extracting(OutboxEvent::getCommentId).containsExactly(10L);
+            assertThat(outboxEventRepository.count()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("롤백되면 이벤트도 남지 않고, 트랜잭션 없이 기록하면 예외")
+    void rolledBackOrNoTransaction_nothingPublished() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxPublisher.publish(OutboxEvent.Type.POST_CREATED, 1L, null);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThatThrownBy(() -> outboxPublisher.publish(OutboxEvent.Type.POST_CREATED, 1L, null))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        outboxDispatcher.dispatchPending();
+        assertThat(handler.handled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 이벤트는 재시도 후 최대 횟수에서 FAILED, 같은 batch 의 다른 이벤트는 정상 전달")
+    void failingEvent_retriedThenFailed_othersDelivered() {
+        // Given: POST_UPDATED 는 핸들러가 항상 실패
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxPublisher.publish(OutboxEvent.Type.POST_UPDATED, 1L, null);
+            outboxPublisher.publish(OutboxEvent.Type.COMMENT_CREATED, 1L, 20L);
+        });
+
+        // When: 재시도 간격 0 이므로 호출할 때마다 다시 전달
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            outboxDispatcher.dispatchPending();
+            return outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING) == 0;
+        });
+
+        // Then
+        List<OutboxEvent> remaining = outboxEventRepository.findAll();
+        assertThat(remaining).hasSize(1);
+        assertThat(remaining.get(0).getType()).isEqualTo(OutboxEvent.Type.POST_UPDATED);
+        assertThat(remaining.get(0).getStatus()).isEqualTo(OutboxEvent.Status.FAILED);
+        assertThat(remaining.get(0).getAttempts()).isEqualTo(3);
+        assertThat(remaining.get(0).getLastError()).contains("색인 실패");
+        assertThat(handler.handled).extracting(OutboxEvent::getType)
+                .containsOnly(OutboxEvent.Type.POST_UPDATED, OutboxEvent.Type.COMMENT_CREATED)
+                .filteredOn(type -> type == OutboxEvent.Type.POST_UPDATED).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘어나고 최대값에서 멈춤")
+    void backoff_exponentialAndCapped() {
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(), 10, 20,
+                Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(dispatcher.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(dispatcher.backoff(5)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(dispatcher.backoff(40)).isEqualTo(Duration.ofSeconds(10));
+        dispatcher.shutdown();
+    }
+
+    // 모든 이벤트를 기록하고, POST_UPDATED 만 실패시키는 핸들러
+    static class RecordingHandler implements OutboxEventHandler {
+
+        final List<OutboxEvent> handled = new CopyOnWriteArrayList<>();
+
+        @Override
+        public boolean supports(OutboxEvent.Type type) {
+            return true;
+        }
+
+        @Override
+        public void handle(OutboxEvent event) {
+            handled.add(event);
+            if (event.getType() == OutboxEvent.Type.POST_UPDATED) {
+                throw new IllegalStateException("색인 실패");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class HandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
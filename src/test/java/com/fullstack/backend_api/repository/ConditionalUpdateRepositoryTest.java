@@ -0,0 +1,132 @@
+package com.fullstack.backend_api.repository;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("조건부 UPDATE 테스트 (PostRepository.updateIfAuthor, CommentRepository.updateContentIfPermitted)")
+class ConditionalUpdateRepositoryTest {
+
+    // 감사(auditing) 시각과 구분되도록 고정된 수정 시각
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member author;
+    private Member other;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(Member.builder().username("author").password("password").role("ROLE_USER").build());
+        other = userRepository.save(Member.builder().username("other").password("password").role("ROLE_USER").build());
+        post = postRepository.save(Post.builder().title("제목").content("내용").author(author).build());
+        comment = commentRepository.save(Comment.builder().content("댓글").post(post).author(author).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("게시글: 작성자 본인이면 1행 수정, 수정 시각 갱신")
+    void updateIfAuthor_author_updated() {
+        // When
+        int updated = postRepository.updateIfAuthor(post.getId(), "author", "새 제목", "새 내용", NOW);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        entityManager.clear();
+        Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("새 제목");
+        assertThat(reloaded.getContent()).isEqualTo("새 내용");
+        assertThat(reloaded.getModifiedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("게시글: 작성자가 아니거나 없는 ID 면 0행, 내용 그대로")
+    void updateIfAuthor_nonAuthorOrMissing_noRows() {
+        // When
+        int byOther = postRepository.updateIfAuthor(post.getId(), "other", "탈취", "탈취", NOW);
+        int byUnknown = postRepository.updateIfAuthor(post.getId(), "nobody", "탈취", "탈취", NOW);
+        int missing = postRepository.updateIfAuthor(MISSING_ID, "author", "새 제목", "새 내용", NOW);
+
+        // Then
+        assertThat(byOther).isZero();
+        assertThat(byUnknown).isZero();
+        assertThat(missing).isZero();
+        entityManager.clear();
+        Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("제목");
+        assertThat(reloaded.getModifiedAt()).isNotEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("댓글: 작성자 본인이면 1행 수정, 수정 시각 갱신")
+    void updateContentIfPermitted_author_updated() {
+        // When
+        int updated = commentRepository.updateContentIfPermitted(comment.getId(), author.getId(), false, "새 댓글", NOW);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        entityManager.clear();
+        Comment reloaded = commentRepository.findById(comment.getId()).orElseThrow();
+        assertThat(reloaded.getContent()).isEqualTo("새 댓글");
+        assertThat(reloaded.getModifiedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("댓글: 작성자가 아니면 0행, 관리자는 작성자가 아니어도 1행 수정")
+    void updateContentIfPermitted_nonAuthorRejected_adminAllowed() {
+        // When
+        int byOther = commentRepository.updateContentIfPermitted(comment.getId(), other.getId(), false, "탈취", NOW);
+        entityManager.clear();
+        String afterOther = commentRepository.findById(comment.getId()).orElseThrow().getContent();
+        int byAdmin = commentRepository.updateContentIfPermitted(comment.getId(), other.getId(), true, "관리자 수정", NOW);
+
+        // Then
+        assertThat(byOther).isZero();
+        assertThat(afterOther).isEqualTo("댓글");
+        assertThat(byAdmin).isEqualTo(1);
+        entityManager.clear();
+        Comment reloaded = commentRepository.findById(comment.getId()).orElseThrow();
+        assertThat(reloaded.getContent()).isEqualTo("관리자 수정");
+        assertThat(reloaded.getModifiedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("댓글: 없는 ID 면 관리자라도 0행")
+    void updateContentIfPermitted_missing_noRows() {
+        // When
+        int byAuthor = commentRepository.updateContentIfPermitted(MISSING_ID, author.getId(), false, "새 댓글", NOW);
+        int byAdmin = commentRepository.updateContentIfPermitted(MISSING_ID, other.getId(), true, "새 댓글", NOW);
+
+        // Then
+        assertThat(byAuthor).isZero();
+        assertThat(byAdmin).isZero();
+    }
+}
@@ -0,0 +1,200 @@
+package com.fullstack.backend_api.repository;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.dto.PostDetail;
+import com.fullstack.backend_api.dto.PostResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("PostRepository 조회 쿼리 수 테스트")
+class PostRepositoryTest {
+
+    private static final int AUTHOR_COUNT = 5;
+    private static final int POST_COUNT = 25;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 서로 다른 게시글을 저장 (작성자 지연 로딩 시 N+1 이 드러나도록)
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            userRepository.save(Member.builder()
+                    .username("author" + i)
+                    .password("password")
+                    .role("ROLE_USER")
+                    .build());
+        }
+        List<Member> authors = userRepository.findAll();
+        for (int i = 0; i < POST_COUNT; i++) {
+            postRepository.save(Post.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .author(authors.get(i % AUTHOR_COUNT))
+                    .build());
+        }
+
+        // 1차 캐시를 비워 실제 조회 시 발생하는 SQL 만 측정
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 조회: 목록 1회 + count 1회, 작성자 추가 조회 없음")
+    void findPostResponses_fixedStatementCountPerPage() {
+        // When
+        Page<PostResponseDto> page = postRepository.findPostResponses(
+                PageRequest.of(1, 10, Sort.by("createdAt").descending()));
+
+        // Then
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(POST_COUNT);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getAuthor()).startsWith("author"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();  // 관리 엔티티를 로드하지 않음
+    }
+
+    @Test
+    @DisplayName("전체 스트리밍 조회: 게시글 수와 관계없이 SQL 1회")
+    void streamAllPostResponses_singleStatement() {
+        // When
+        List<PostResponseDto> posts;
+        try (Stream<PostResponseDto> stream = postRepository.streamAllPostResponses()) {
+            posts = stream.toList();
+        }
+
+        // Then
+        assertThat(posts).hasSize(POST_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상세 캐시 적재 조회: 응답 DTO 와 버전 조회와 같은 수정 시각을 SQL 1회로")
+    void findPostDetailById_includesModifiedAt() {
+        // Given
+        Long postId = postRepository.findMaxId().orElseThrow();
+        statistics.clear();
+
+        // When
+        PostDetail detail = postRepository.findPostDetailById(postId).orElseThrow();
+
+        // Then
+        assertThat(detail.post().getId()).isEqualTo(postId);
+        assertThat(detail.post().getAuthor()).startsWith("author");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(detail.modifiedAt()).isNotNull()
+                .isEqualTo(postRepository.findVersionById(postId).orElseThrow().lastModifiedAt());
+    }
+
+    @Test
+    @DisplayName("커서 조회: 페이지마다 SQL 1회(count 없음), 중복/누락 없이 끝까지 순회")
+    void findPostSlice_keysetTraversal() {
+        // Given
+        PageRequest limit = PageRequest.of(0, 10);
+        List<PostResponseDto> visited = new ArrayList<>();
+
+        // When
+        Slice<PostResponseDto> slice = postRepository.findPostSlice(limit);
+        visited.addAll(slice.getContent());
+        int pages = 1;
+        while (slice.hasNext()) {
+            PostResponseDto last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = postRepository.findPostSliceBefore(last.getCreatedAt(), last.getId(), limit);
+            visited.addAll(slice.getContent());
+            pages++;
+        }
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(visited).extracting(PostResponseDto::getId).doesNotHaveDuplicates().hasSize(POST_COUNT);
+        assertThat(visited).isSortedAccordingTo(Comparator.comparing(PostResponseDto::getCreatedAt)
+                .thenComparing(PostResponseDto::getId).reversed());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+    }
+
+    @Test
+    @DisplayName("댓글 수 증감: 원자적 UPDATE 1회씩, 0 미만으로 내려가지 않고 목록 조회에 포함")
+    void incrementAndDecrementCommentCount() {
+        // Given
+        Long postId = postRepository.findMaxId().orElseThrow();
+
+        // When
+        postRepository.incrementCommentCount(postId);
+        postRepository.incrementCommentCount(postId);
+        int decremented = postRepository.decrementCommentCount(postId);
+        postRepository.decrementCommentCount(postId);
+        int belowZero = postRepository.decrementCommentCount(postId);
+        postRepository.incrementCommentCount(postId);
+
+        // Then
+        assertThat(decremented).isEqualTo(1);
+        assertThat(belowZero).isZero();
+        assertThat(postRepository.findPostResponseById(postId)).get()
+                .extracting(PostResponseDto::getCommentCount).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 수 복구: 실제 댓글 수와 다른 게시글만 수정")
+    void reconcileCommentCounts_repairsDriftOnly() {
+        // Given: 댓글 2개를 카운터 갱신 없이 저장 (drift)
+        Post post = postRepository.findAll().get(0);
+        for (int i = 0; i < 2; i++) {
+            commentRepository.save(Comment.builder().content("댓글" + i).post(post).author(post.getAuthor()).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int repaired = postRepository.reconcileCommentCounts(0L, postRepository.findMaxId().orElseThrow() + 1);
+        int repairedAgain = postRepository.reconcileCommentCounts(0L, postRepository.findMaxId().orElseThrow() + 1);
+
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(repairedAgain).isZero();
+        assertThat(postRepository.findPostResponseById(post.getId())).get()
+                .extracting(PostResponseDto::getCommentCount).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullstack.backend_api.repository;
+
+import com.fullstack.backend_api.service.MemberCache;
+import com.fullstack.backend_api.service.MemberCacheEvictionListener;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * @DataJpaTest 슬라이스에서 엔티티 리스너가 의존하는 빈을 등록합니다.
+ */
+@TestConfiguration
+@Import({MemberCache.class, MemberCacheEvictionListener.class})
+public class RepositoryTestConfig {
+}
@@ -0,0 +1,118 @@
+package com.fullstack.backend_api.search;
+
+import com.fullstack.backend_api.dto.PostResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostSearchIndex 테스트 (한국어 형태소 색인, 점수 순 검색, 교체/삭제, 재구성)")
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new PostSearchIndex("");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("조사/어미가 붙은 형태도 검색되고, 제목 일치가 본문 일치보다 먼저")
+    void search_koreanMorphemesRankedByTitle() {
+        // Given
+        index.index(1L, "맛집 후기", "주말에 다녀온 검색엔진 회사 근처 식당");
+        index.index(2L, "검색엔진을 만드는 방법", "역색인과 형태소 분석");
+        index.index(3L, "일상", "오늘은 비가 왔다");
+        index.refresh();
+
+        // When
+        PostSearchIndex.Hits hits = index.search("검색엔진", 0, 10);
+
+        // Then
+        assertThat(hits.ids()).containsExactly(2L, 1L);
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(index.search("형태소를", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("을", 0, 10).ids()).isEmpty();  // 조사만 있는 검색어
+    }
+
+    @Test
+    @DisplayName("페이지: offset 부터 limit 개, 전체 건수는 그대로")
+    void search_paginated() {
+        // Given
+        for (long id = 1; id <= 25; id++) {
+            index.index(id, "공지 " + id, "내용");
+        }
+        index.refresh();
+
+        // When
+        PostSearchIndex.Hits page = index.search("공지", 20, 10);
+
+        // Then
+        assertThat(page.total()).isEqualTo(25);
+        assertThat(page.ids()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("수정은 같은 ID 문서를 교체, 삭제는 색인에서 제거")
+    void index_replacesAndRemoves() {
+        // Given
+        index.index(1L, "초안", "첫 번째 내용");
+        index.refresh();
+
+        // When
+        index.index(1L, "완성본", "두 번째 내용");
+        index.remove(2L);  // 없는 ID 삭제는 무시
+        index.refresh();
+
+        // Then
+        assertThat(index.search("초안", 0, 10).ids()).isEmpty();
+        assertThat(index.search("완성본", 0, 10).ids()).containsExactly(1L);
+
+        // When
+        index.remove(1L);
+        index.refresh();
+
+        // Then
+        assertThat(index.search("완성본", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("재구성: 기존 문서를 모두 지우고 주어진 게시글로 다시 색인, 디스크 색인은 재시작 후에도 유지")
+    void rebuild_replacesEverything(@TempDir Path indexDir) throws Exception {
+        // Given
+        PostSearchIndex diskIndex = new PostSearchIndex(indexDir.toString());
+        diskIndex.index(99L, "삭제된 게시글", "예전 내용");
+
+        // When
+        long indexed = diskIndex.rebuild(Stream.of(
+                PostResponseDto.builder().id(1L).title("새 글").content("재구성 내용").build(),
+                PostResponseDto.builder().id(2L).title("또 다른 글").content("재구성 내용").build()));
+
+        // Then
+        assertThat(indexed).isEqualTo(2);
+        assertThat(diskIndex.search("삭제된", 0, 10).ids()).isEmpty();
+        assertThat(diskIndex.search("재구성", 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+
+        // When: 닫았다가 같은 디렉터리로 다시 열기
+        diskIndex.close();
+        PostSearchIndex reopened = new PostSearchIndex(indexDir.toString());
+
+        // Then
+        try {
+            assertThat(reopened.search("재구성", 0, 10).total()).isEqualTo(2);
+        } finally {
+            reopened.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.dto.BulkCommentCreateRequest;
+import com.fullstack.backend_api.dto.BulkItemResult;
+import com.fullstack.backend_api.dto.BulkItemResult.Status;
+import com.fullstack.backend_api.dto.BulkResultResponse;
+import com.fullstack.backend_api.exception.PermissionDeniedException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import com.fullstack.backend_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("CommentBulkService 일괄 작성/삭제 테스트")
+class CommentBulkServiceTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CommentBulkService commentBulkService;
+    private Member writer;
+    private Member other;
+    private Post firstPost;
+    private Post secondPost;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(Member.builder().username("writer").password("password").role("ROLE_USER").build());
+        other = userRepository.save(Member.builder().username("other").password("password").role("ROLE_USER").build());
+        firstPost = postRepository.save(Post.builder().title("첫 글").content("내용").author(writer).build());
+        secondPost = postRepository.save(Post.builder().title("둘째 글").content("내용").author(writer).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        commentBulkService = new CommentBulkService(commentRepository, postRepository, userRepository,
+                new PostDetailCache(new ConcurrentMapCache(PostDetailCache.CACHE_NAME)), entityManager, mock(OutboxPublisher.class),
+                BATCH_SIZE, 500);
+    }
+
+    @Test
+    @DisplayName("일괄 작성: 항목별 결과 반환, batch INSERT 로 SQL 수가 항목 수에 비례하지 않음")
+    void createComments_batchedWithPerItemResults() {
+        // Given: 두 게시글에 120개 + 내용 없음 1개 + 없는 게시글 1개
+        List<BulkCommentCreateRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            items.add(new BulkCommentCreateRequest.Item(i % 2 == 0 ? firstPost.getId() : secondPost.getId(), "댓글" + i));
+        }
+        items.add(new BulkCommentCreateRequest.Item(firstPost.getId(), " "));
+        items.add(new BulkCommentCreateRequest.Item(999_999L, "없는 게시글"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        BulkResultResponse response = commentBulkService.createComments(items, writer.getId());
+
+        // Then: 항목별 결과
+        assertThat(response.succeeded()).isEqualTo(120);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results()).hasSize(122);
+        assertThat(response.results().get(0).status()).isEqualTo(Status.CREATED);
+        assertThat(response.results().get(0).id()).isNotNull();
+        assertThat(response.results().get(120).status()).isEqualTo(Status.INVALID);
+        assertThat(response.results().get(121).status()).isEqualTo(Status.NOT_FOUND);
+
+        // Then: 게시글/작성자 검증 각 1회, INSERT 는 batch 단위로만 준비 (120회가 아님)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(commentRepository.count()).isEqualTo(120);
+        assertThat(postRepository.findById(firstPost.getId()).orElseThrow().getCommentCount()).isEqualTo(60);
+        assertThat(postRepository.findById(secondPost.getId()).orElseThrow().getCommentCount()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제: 본인 댓글만 삭제, 남의 댓글/없는 댓글/중복 ID 는 항목별 실패")
+    void deleteComments_authorizedPerItem() {
+        // Given
+        List<BulkCommentCreateRequest.Item> mine = List.of(
+                new BulkCommentCreateRequest.Item(firstPost.getId(), "내 댓글1"),
+                new BulkCommentCreateRequest.Item(firstPost.getId(), "내 댓글2"));
+        List<Long> myIds = commentBulkService.createComments(mine, writer.getId()).results().stream()
+                .map(BulkItemResult::id).toList();
+        Long othersId = commentBulkService.createComments(
+                List.of(new BulkCommentCreateRequest.Item(firstPost.getId(), "남의 댓글")), other.getId())
+                .results().get(0).id();
+
+        // When
+        BulkResultResponse response = commentBulkService.deleteComments(
+                Arrays.asList(myIds.get(0), othersId, 999_999L, myIds.get(1), myIds.get(0)), writer.getId(), List.of("ROLE_USER"));
+
+        // Then
+        assertThat(response.results()).extracting(BulkItemResult::status)
+                .containsExactly(Status.DELETED, Status.FORBIDDEN, Status.NOT_FOUND, Status.DELETED, Status.INVALID);
+        entityManager.clear();
+        assertThat(commentRepository.findAll()).extracting(Comment::getId).containsExactly(othersId);
+        assertThat(postRepository.findById(firstPost.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제: ADMIN 은 남의 댓글도 삭제, 비로그인은 거부")
+    void deleteComments_adminAndAnonymous() {
+        // Given
+        Long othersId = commentBulkService.createComments(
+                List.of(new BulkCommentCreateRequest.Item(secondPost.getId(), "남의 댓글")), other.getId())
+                .results().get(0).id();
+
+        // When / Then
+        assertThatThrownBy(() -> commentBulkService.deleteComments(List.of(othersId), null, List.of()))
+                .isInstanceOf(PermissionDeniedException.class);
+        BulkResultResponse response = commentBulkService.deleteComments(List.of(othersId), writer.getId(), List.of("ROLE_ADMIN"));
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(commentRepository.count()).isZero();
+    }
+}
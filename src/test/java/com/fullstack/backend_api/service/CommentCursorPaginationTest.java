@@ -0,0 +1,162 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.dto.CommentResponseDto;
+import com.fullstack.backend_api.dto.CursorSliceResponse;
+import com.fullstack.backend_api.dto.KeysetCursor;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.stream.CommentStreamHub;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("댓글 커서 페이지네이션 테스트 (CommentService.getCommentsByCursor, KeysetCursor)")
+class CommentCursorPaginationTest {
+
+    private static final LocalDateTime EARLY = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime LATE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CommentService commentService;
+    private Post post;
+    // 기대 순서 (createdAt, id 오름차순)
+    private List<Long> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        Member author = userRepository.save(Member.builder().username("author").password("password").role("ROLE_USER").build());
+        post = postRepository.save(Post.builder().title("제목").content("내용").author(author).build());
+        Post otherPost = postRepository.save(Post.builder().title("다른 글").content("내용").author(author).build());
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            comments.add(Comment.builder().content("댓글" + i).post(post).author(author).build());
+        }
+        comments.add(Comment.builder().content("다른 글 댓글").post(otherPost).author(author).build());
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+
+        // 먼저 저장한 3개는 LATE, 나중 4개는 EARLY 로 같은 시각을 공유 (ID 순서와 시각 순서가 다르고, 시각이 겹침)
+        List<Long> late = comments.subList(0, 3).stream().map(Comment::getId).toList();
+        List<Long> early = comments.subList(3, 7).stream().map(Comment::getId).toList();
+        setCreatedAt(late, LATE);
+        setCreatedAt(early, EARLY);
+        entityManager.clear();
+
+        expectedOrder = new ArrayList<>(early);
+        expectedOrder.addAll(late);
+
+        commentService = new CommentService(commentRepository, postRepository, userRepository,
+                mock(PostDetailCache.class), mock(OutboxPublisher.class), mock(CommentStreamHub.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지: 가장 오래된 댓글부터 size 개, 다음 커서는 마지막 (createdAt, id)")
+    void firstPage() {
+        // When
+        CursorSliceResponse<CommentResponseDto> page = commentService.getCommentsByCursor(post.getId(), null, 3);
+
+        // Then
+        assertThat(page.getContent()).extracting(CommentResponseDto::getId).containsExactlyElementsOf(expectedOrder.subList(0, 3));
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(new KeysetCursor(EARLY, expectedOrder.get(2)));
+    }
+
+    @Test
+    @DisplayName("다음 페이지: 같은 createdAt 이 페이지 경계에 걸려도 마지막 (createdAt, id) 바로 다음부터 이어서 조회")
+    void nextPages_continueExactlyAfterLastPair() {
+        // Given
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // When: size 2 로 끝까지 순회 (EARLY 4개 / LATE 3개가 모두 경계에 걸림)
+        CursorSliceResponse<CommentResponseDto> page;
+        do {
+            page = commentService.getCommentsByCursor(post.getId(), cursor, 2);
+            page.getContent().forEach(comment -> visited.add(comment.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasNext());
+
+        // Then
+        assertThat(pages).isEqualTo(4);
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지: hasNext = false, nextCursor 없음")
+    void lastPage_hasNoNextCursor() {
+        // Given: 마지막에서 두 번째 댓글 위치의 커서
+        String cursor = new KeysetCursor(LATE, expectedOrder.get(5)).encode();
+
+        // When
+        CursorSliceResponse<CommentResponseDto> page = commentService.getCommentsByCursor(post.getId(), cursor, 3);
+
+        // Then
+        assertThat(page.getContent()).extracting(CommentResponseDto::getId).containsExactly(expectedOrder.get(6));
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalStateException (GlobalExceptionHandler 에서 400)")
+    void malformedCursor_rejected() {
+        String notBase64 = "###";
+        String noDelimiter = base64("2024-01-01T09:00");
+        String badDate = base64("yesterday|1");
+        String badId = base64("2024-01-01T09:00|abc");
+
+        for (String cursor : List.of(notBase64, noDelimiter, badDate, badId)) {
+            assertThatThrownBy(() -> commentService.getCommentsByCursor(post.getId(), cursor, 3))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("유효하지 않은 커서입니다.");
+        }
+        assertThat(KeysetCursor.decode(" ")).isNull();  // 빈 커서는 첫 페이지
+    }
+
+    private void setCreatedAt(List<Long> ids, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("update comment set created_at = :createdAt where id in (:ids)")
+                .setParameter("createdAt", createdAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
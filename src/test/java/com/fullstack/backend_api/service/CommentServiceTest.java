@@ -4,13 +4,16 @@ import com.fullstack.backend_api.domain.Comment;
 import com.fullstack.backend_api.domain.Post;
 import com.fullstack.backend_api.domain.Member;
 import com.fullstack.backend_api.dto.CommentCreateRequest;
+import com.fullstack.backend_api.dto.CommentOwner;
 import com.fullstack.backend_api.dto.CommentResponseDto;
 import com.fullstack.backend_api.dto.CommentUpdateRequest;
 import com.fullstack.backend_api.exception.PermissionDeniedException;
 import com.fullstack.backend_api.exception.ResourceNotFoundException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
 import com.fullstack.backend_api.repository.CommentRepository;
 import com.fullstack.backend_api.repository.PostRepository;
 import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.stream.CommentStreamHub;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +38,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +55,15 @@ public class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private CommentStreamHub commentStreamHub;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -117,6 +131,7 @@ public class CommentServiceTest {
         verify(postRepository, times(1)).findById(POST_ID);
         verify(userRepository, times(1)).findById(TEST_USER_ID);
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(postRepository, times(1)).incrementCommentCount(POST_ID);
 
         // 2. 응답 내용 검증
         assertThat(response.getContent()).isEqualTo(newContent);
@@ -186,25 +201,24 @@ public class CommentServiceTest {
     @DisplayName("2-1. 댓글 수정 성공: 작성자 본인이 자신의 댓글을 수정")
     void updateComment_owner_success() {
         // Given
-        // 1. 기존 Comment 객체 준비 (작성자: TEST_USER)
-        LocalDateTime initialTime = LocalDateTime.now().minusMinutes(5);
-        Comment existingComment = Comment.builder()
+        // 1. 수정 후 조회될 Comment 객체 준비 (작성자: TEST_USER)
+        Comment updatedComment = Comment.builder()
                 .id(COMMENT_ID)
                 .author(TEST_USER) // 작성자가 로그인된 TEST_USER와 일치
-                .content("원래 댓글 내용입니다.")
-                // Post 객체도 필요하다면 여기에 추가 .post(...)
+                .content(updateRequest.getContent())
                 .build();
 
-        // 2. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
+        // 2. Repository Mocking: 작성자 조건부 UPDATE 가 1행을 수정하고, 수정된 댓글을 작성자와 함께 조회
+        when(commentRepository.updateContentIfPermitted(eq(COMMENT_ID), eq(TEST_USER_ID), eq(false), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(commentRepository.findWithAuthorById(COMMENT_ID)).thenReturn(Optional.of(updatedComment));
 
-        // 3. ArgumentCaptor 준비
-        ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
-        when(commentRepository.save(commentCaptor.capture())).thenReturn(existingComment);
+        // 3. ArgumentCaptor 준비 (UPDATE 에 전달된 내용)
+        ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
 
         // When
         // currentUserId와 roles는 SecurityContext에서 가져오거나, 메서드 시그니처에 맞게 직접 넘겨줍니다.
-        commentService.updateComment(
+        CommentResponseDto response = commentService.updateComment(
                 COMMENT_ID,
                 updateRequest,
                 TEST_USER_ID, // Service 메서드 시그니처에 따라 ID 전달
@@ -212,18 +226,15 @@ public class CommentServiceTest {
         );
 
         // Then
-        // 1. Repository 상호작용 검증
-        verify(commentRepository, times(1)).findById(COMMENT_ID);
-        verify(commentRepository, times(1)).save(any(Comment.class));
-
-        // 2. 캡처된 객체를 통해 데이터 검증
-        Comment savedComment = commentCaptor.getValue();
-
-        // 내용이 업데이트 되었는지 확인
-        assertThat(savedComment.getContent()).isEqualTo(updateRequest.getContent());
+        // 1. Repository 상호작용 검증: 조건부 UPDATE 1회, 권한 확인용 엔티티 로드/저장 없음
+        verify(commentRepository, times(1)).updateContentIfPermitted(
+                eq(COMMENT_ID), eq(TEST_USER_ID), eq(false), contentCaptor.capture(), any(LocalDateTime.class));
+        verify(commentRepository, never()).findById(COMMENT_ID);
+        verify(commentRepository, never()).save(any(Comment.class));
 
-        // 수정 시간이 업데이트 되었는지 확인 (Service 로직에서 시간을 변경했다고 가정)
-//        assertThat(savedComment.getModifiedAt()).isAfter(initialTime);
+        // 2. 내용이 업데이트 되었는지 확인
+        assertThat(contentCaptor.getValue()).isEqualTo(updateRequest.getContent());
+        assertThat(response.getContent()).isEqualTo(updateRequest.getContent());
     }
 
     @Test
@@ -246,25 +257,23 @@ public class CommentServiceTest {
         Authentication adminAuth = new UsernamePasswordAuthenticationToken(adminDetails, null, adminDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(adminAuth);
 
-        // 2. 타인(OTHER_USER)이 작성한 Comment 객체 준비
+        // 2. 타인(OTHER_USER)이 작성한 Comment 객체 준비 (수정 후 조회 결과)
         Member otherAuthor = Member.builder().id(OTHER_USER_ID).username(OTHER_USERNAME).build();
-        LocalDateTime initialTime = LocalDateTime.now().minusMinutes(5);
+        CommentUpdateRequest updateRequest = new CommentUpdateRequest("ADMIN이 수정 완료한 내용!");
 
-        Comment existingComment = Comment.builder()
+        Comment updatedComment = Comment.builder()
                 .id(COMMENT_ID)
                 .author(otherAuthor) // 👈 타인(ID=2L)이 작성자로 설정
-                .content("ADMIN이 수정할 내용")
+                .content(updateRequest.getContent())
                 .build();
 
-        CommentUpdateRequest updateRequest = new CommentUpdateRequest("ADMIN이 수정 완료한 내용!");
-
-        // 3. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
-        ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
-        when(commentRepository.save(commentCaptor.capture())).thenReturn(existingComment);
+        // 3. Repository Mocking: ADMIN 이면 작성자 조건 없이 수정
+        when(commentRepository.updateContentIfPermitted(eq(COMMENT_ID), eq(TEST_USER_ID), eq(true), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(commentRepository.findWithAuthorById(COMMENT_ID)).thenReturn(Optional.of(updatedComment));
 
         // When
-        commentService.updateComment(
+        CommentResponseDto response = commentService.updateComment(
                 COMMENT_ID,
                 updateRequest,
                 TEST_USER_ID, // 👈 ADMIN 권한의 사용자 ID 전달 (1L)
@@ -272,17 +281,15 @@ public class CommentServiceTest {
         );
 
         // Then
-        // 1. Repository 상호작용 검증
-        verify(commentRepository, times(1)).save(any(Comment.class));
+        // 1. Repository 상호작용 검증: ADMIN 조건으로 UPDATE 1회
+        verify(commentRepository, times(1)).updateContentIfPermitted(
+                eq(COMMENT_ID), eq(TEST_USER_ID), eq(true), eq(updateRequest.getContent()), any(LocalDateTime.class));
 
-        // 2. 캡처된 객체를 통해 데이터 검증
-        Comment savedComment = commentCaptor.getValue();
-
-        // 내용이 ADMIN의 요청대로 업데이트 되었는지 확인
-        assertThat(savedComment.getContent()).isEqualTo(updateRequest.getContent());
+        // 2. 내용이 ADMIN의 요청대로 업데이트 되었는지 확인
+        assertThat(response.getContent()).isEqualTo(updateRequest.getContent());
 
         // 🚨 중요: 작성자는 ADMIN이 아닌 원래의 타인(OTHER_USER)으로 유지되는지 확인
-        assertThat(savedComment.getAuthor().getId()).isEqualTo(OTHER_USER_ID);
+        assertThat(response.getAuthorId()).isEqualTo(OTHER_USER_ID);
     }
 
     @Test
@@ -290,7 +297,6 @@ public class CommentServiceTest {
     void updateComment_unauthorized_failure() {
         // Given
         Long OTHER_USER_ID = 99L;
-        Member otherAttacker = Member.builder().id(OTHER_USER_ID).username("attacker").build();
 
         // 1. Authentication 설정: 타인(OTHER_USER)이 로그인했다고 가정
         UserDetails otherUserDetails = new org.springframework.security.core.userdetails.User(
@@ -301,17 +307,12 @@ public class CommentServiceTest {
         Authentication otherAuth = new UsernamePasswordAuthenticationToken(otherUserDetails, null, otherUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(otherAuth);
 
-        // 2. TEST_USER가 작성한 기존 Comment 객체 준비
-        Comment existingComment = Comment.builder()
-                .id(COMMENT_ID)
-                .author(TEST_USER) // 👈 작성자는 ID=1L
-                .content("TEST_USER의 댓글")
-                .build();
-
         CommentUpdateRequest updateRequest = new CommentUpdateRequest("공격 시도 내용");
 
-        // 3. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
+        // 2. Repository Mocking: 작성자 조건이 맞지 않아 UPDATE 0행, 댓글 자체는 존재 (작성자는 ID=1L)
+        when(commentRepository.updateContentIfPermitted(eq(COMMENT_ID), eq(OTHER_USER_ID), eq(false), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(new CommentOwner(COMMENT_ID, null, TEST_USER_ID)));
 
         // When & Then
         // updateComment 호출 시 PermissionDeniedException이 발생하는지 검증
@@ -325,7 +326,8 @@ public class CommentServiceTest {
         ).isInstanceOf(PermissionDeniedException.class)
                 .hasMessageContaining("댓글을 수정할 권한이 없습니다."); // 예외 메시지 확인
 
-        // 추가 검증: save()는 호출되지 않았는지 확인 (권한 검사에서 예외 발생으로 로직 중단)
+        // 추가 검증: 수정된 댓글 조회/저장은 일어나지 않았는지 확인
+        verify(commentRepository, never()).findWithAuthorById(any());
         verify(commentRepository, never()).save(any(Comment.class));
     }
 
@@ -336,17 +338,12 @@ public class CommentServiceTest {
         // 1. Authentication 설정 제거: SecurityContext를 비워 미인증 상태 시뮬레이션
         SecurityContextHolder.getContext().setAuthentication(null);
 
-        // 2. TEST_USER가 작성한 기존 Comment 객체 준비 (리소스는 존재함)
-        Comment existingComment = Comment.builder()
-                .id(COMMENT_ID)
-                .author(TEST_USER) // 작성자는 TEST_USER
-                .content("미인증 사용자가 수정 시도할 댓글")
-                .build();
-
         CommentUpdateRequest updateRequest = new CommentUpdateRequest("공격 시도 내용");
 
-        // 3. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
+        // 2. Repository Mocking: 작성자 ID 가 null 이므로 UPDATE 0행, 댓글 자체는 존재 (작성자는 TEST_USER)
+        when(commentRepository.updateContentIfPermitted(eq(COMMENT_ID), isNull(), eq(false), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(new CommentOwner(COMMENT_ID, null, TEST_USER_ID)));
 
         // When & Then
         // updateComment 호출 시, currentUserId에 null을 전달하고, 권한이 없으므로 PermissionDeniedException 발생을 기대
@@ -371,8 +368,10 @@ public class CommentServiceTest {
         Long INVALID_COMMENT_ID = 9999L;
         CommentUpdateRequest updateRequest = new CommentUpdateRequest("수정 시도 내용");
 
-        // 1. Repository Mocking: findById 호출 시 빈 Optional 반환 설정
-        when(commentRepository.findById(INVALID_COMMENT_ID)).thenReturn(Optional.empty());
+        // 1. Repository Mocking: UPDATE 0행, 소유 정보 조회 시 빈 Optional 반환 설정
+        when(commentRepository.updateContentIfPermitted(eq(INVALID_COMMENT_ID), eq(TEST_USER_ID), eq(false), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(commentRepository.findOwnerById(INVALID_COMMENT_ID)).thenReturn(Optional.empty());
 
         // When & Then
         // updateComment 호출 시 ResourceNotFoundException이 발생하는지 검증
@@ -397,15 +396,12 @@ public class CommentServiceTest {
     @DisplayName("3-1. 댓글 삭제 성공: 작성자 본인이 자신의 댓글을 삭제")
     void deleteComment_owner_success() {
         // Given
-        // 1. 기존 Comment 객체 준비 (작성자: TEST_USER)
-        Comment existingComment = Comment.builder()
-                .id(COMMENT_ID)
-                .author(TEST_USER)
-                .content("삭제될 댓글")
-                .build();
+        // 1. 기존 댓글의 소유 정보 준비 (작성자: TEST_USER)
+        CommentOwner owner = new CommentOwner(COMMENT_ID, null, TEST_USER_ID);
 
         // 2. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(owner));
+        when(commentRepository.deleteAllByIdInBulk(List.of(COMMENT_ID))).thenReturn(1);
 
         // When
         commentService.deleteComment(
@@ -415,31 +411,56 @@ public class CommentServiceTest {
         );
 
         // Then
-        // delete() 메소드가 정확히 1번 호출되었는지 검증
-        verify(commentRepository, times(1)).findById(COMMENT_ID);
-        // 🚨 핵심 검증: delete() 메소드가 호출되었는지 확인
-        verify(commentRepository, times(1)).delete(existingComment);
+        // 소유 정보만 1번 조회 (댓글 엔티티 로드 없음)
+        verify(commentRepository, times(1)).findOwnerById(COMMENT_ID);
+        verify(commentRepository, never()).findById(COMMENT_ID);
+        // 🚨 핵심 검증: DELETE 가 실행되었는지 확인
+        verify(commentRepository, times(1)).deleteAllByIdInBulk(List.of(COMMENT_ID));
         verify(commentRepository, never()).save(any(Comment.class)); // save는 호출되지 않아야 함
     }
 
+    @Test
+    @DisplayName("3-1-1. 댓글 삭제 시 게시글 댓글 수를 같은 트랜잭션에서 감소")
+    void deleteComment_decrementsPostCommentCount() {
+        // Given
+        Long postId = 50L;
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(new CommentOwner(COMMENT_ID, postId, TEST_USER_ID)));
+        when(commentRepository.deleteAllByIdInBulk(List.of(COMMENT_ID))).thenReturn(1);
+
+        // When
+        commentService.deleteComment(COMMENT_ID, TEST_USER_ID, Collections.singletonList("ROLE_USER"));
+
+        // Then
+        verify(commentRepository, times(1)).deleteAllByIdInBulk(List.of(COMMENT_ID));
+        verify(postRepository, times(1)).decrementCommentCount(postId);
+        verify(postDetailCache, times(1)).evict(postId);
+    }
+
+    @Test
+    @DisplayName("3-1-2. 댓글 삭제 경합: 다른 요청이 먼저 삭제했으면 댓글 수 감소/이벤트 없이 404")
+    void deleteComment_alreadyDeleted_notFoundWithoutSideEffects() {
+        // Given: 소유 정보 조회는 통과했지만 DELETE 시점에는 이미 삭제됨
+        Long postId = 50L;
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(new CommentOwner(COMMENT_ID, postId, TEST_USER_ID)));
+        when(commentRepository.deleteAllByIdInBulk(List.of(COMMENT_ID))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> commentService.deleteComment(COMMENT_ID, TEST_USER_ID, Collections.singletonList("ROLE_USER")))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(postRepository, never()).decrementCommentCount(any());
+        verify(postDetailCache, never()).evict(any());
+        verifyNoInteractions(outboxPublisher);
+    }
+
     @Test
     @DisplayName("3-2. 댓글 삭제 실패: 일반 USER가 타인의 댓글 삭제 시도 (권한 부족)")
     void deleteComment_unauthorized_failure() {
         // Given
         Long OTHER_USER_ID = 99L;
 
-        // 1. Authentication 설정: 타인(OTHER_USER)이 로그인했다고 가정
-        // (BeforeEach에서 설정된 TEST_USER 대신 임시로 OTHER_USER 권한 설정 필요)
-
-        // 2. TEST_USER가 작성한 기존 Comment 객체 준비
-        Comment existingComment = Comment.builder()
-                .id(COMMENT_ID)
-                .author(TEST_USER) // 👈 작성자는 ID=1L
-                .content("TEST_USER의 댓글")
-                .build();
-
-        // 3. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
+        // 1. TEST_USER가 작성한 기존 댓글의 소유 정보 준비 (작성자는 ID=1L)
+        // 2. Repository Mocking
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(new CommentOwner(COMMENT_ID, null, TEST_USER_ID)));
 
         // When & Then
         // deleteComment 호출 시 PermissionDeniedException이 발생하는지 검증
@@ -452,8 +473,8 @@ public class CommentServiceTest {
         ).isInstanceOf(PermissionDeniedException.class)
                 .hasMessageContaining("댓글을 삭제할 권한이 없습니다.");
 
-        // 🚨 핵심 검증: delete()는 호출되지 않았는지 확인 (권한 검사에서 예외 발생으로 로직 중단)
-        verify(commentRepository, never()).delete(any(Comment.class));
+        // 🚨 핵심 검증: DELETE 는 실행되지 않았는지 확인 (권한 검사에서 예외 발생으로 로직 중단)
+        verify(commentRepository, never()).deleteAllByIdInBulk(any());
     }
 
     @Test
@@ -461,20 +482,14 @@ public class CommentServiceTest {
     void deleteComment_admin_success() {
         // Given
         Long OTHER_USER_ID = 2L;
-        Member otherAuthor = Member.builder().id(OTHER_USER_ID).username("otherUser").build();
 
         // 1. ADMIN 권한 및 역할 설정
         Collection<String> adminRoles = Collections.singletonList("ROLE_ADMIN");
 
-        // 2. 타인(OTHER_USER)이 작성한 Comment 객체 준비
-        Comment existingComment = Comment.builder()
-                .id(COMMENT_ID)
-                .author(otherAuthor) // 👈 타인(ID=2L)이 작성자로 설정
-                .content("ADMIN이 삭제할 댓글")
-                .build();
-
+        // 2. 타인(OTHER_USER, ID=2L)이 작성한 댓글의 소유 정보 준비
         // 3. Repository Mocking
-        when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(existingComment));
+        when(commentRepository.findOwnerById(COMMENT_ID)).thenReturn(Optional.of(new CommentOwner(COMMENT_ID, null, OTHER_USER_ID)));
+        when(commentRepository.deleteAllByIdInBulk(List.of(COMMENT_ID))).thenReturn(1);
 
         // When
         commentService.deleteComment(
@@ -484,9 +499,9 @@ public class CommentServiceTest {
         );
 
         // Then
-        // delete() 메소드가 1번 호출되었는지 확인
-        verify(commentRepository, times(1)).findById(COMMENT_ID);
-        verify(commentRepository, times(1)).delete(existingComment);
+        // DELETE 가 1번 실행되었는지 확인
+        verify(commentRepository, times(1)).findOwnerById(COMMENT_ID);
+        verify(commentRepository, times(1)).deleteAllByIdInBulk(List.of(COMMENT_ID));
     }
 
     @Test
@@ -495,8 +510,8 @@ public class CommentServiceTest {
         // Given
         Long INVALID_COMMENT_ID = 9999L;
 
-        // 1. Repository Mocking: findById 호출 시 빈 Optional 반환 설정
-        when(commentRepository.findById(INVALID_COMMENT_ID)).thenReturn(Optional.empty());
+        // 1. Repository Mocking: 소유 정보 조회 시 빈 Optional 반환 설정
+        when(commentRepository.findOwnerById(INVALID_COMMENT_ID)).thenReturn(Optional.empty());
 
         // When & Then
         // deleteComment 호출 시 ResourceNotFoundException이 발생하는지 검증
@@ -510,8 +525,8 @@ public class CommentServiceTest {
                 .hasMessageContaining("댓글") // 유연한 메시지 검증
                 .hasMessageContaining("찾을 수 없습니다.");
 
-        // delete()는 호출되지 않았는지 확인
-        verify(commentRepository, never()).delete(any(Comment.class));
+        // DELETE 는 실행되지 않았는지 확인
+        verify(commentRepository, never()).deleteAllByIdInBulk(any());
     }
 
     @Test
@@ -578,4 +593,19 @@ public class CommentServiceTest {
         assertThat(responsePage.isLast()).isTrue(); // 마지막 페이지인지 확인
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("5-1. 실시간 댓글 구독 실패: 존재하지 않는 게시글 ID")
+    void subscribeComments_postNotFound_failure() {
+        // Given
+        Long NON_EXISTENT_POST_ID = 999L;
+        when(postRepository.existsById(NON_EXISTENT_POST_ID)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> commentService.subscribeComments(NON_EXISTENT_POST_ID, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("게시글");
+
+        verify(commentStreamHub, never()).subscribe(any(), any());
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.fullstack.backend_api.service;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtClaimsCache 단위 테스트")
+class JwtClaimsCacheTest {
+
+    private static final String SECRET = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 파싱하고 이후에는 캐시에서 반환")
+    void get_parsesTokenOnlyOnce() {
+        // Given
+        JwtClaimsCache cache = new JwtClaimsCache(100);
+        AtomicInteger parseCount = new AtomicInteger();
+        TokenClaims claims = claims(Instant.now().plusSeconds(60));
+
+        // When
+        TokenClaims first = cache.get("token", t -> { parseCount.incrementAndGet(); return claims; });
+        TokenClaims second = cache.get("token", t -> { parseCount.incrementAndGet(); return claims; });
+
+        // Then
+        assertThat(parseCount.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 실패한 토큰은 캐시에 저장되지 않음")
+    void get_invalidTokenIsNotCached() {
+        // Given
+        JwtClaimsCache cache = new JwtClaimsCache(100);
+
+        // When & Then
+        assertThatThrownBy(() -> cache.get("bad", t -> { throw new JwtException("invalid"); }))
+                .isInstanceOf(JwtException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰의 클레임은 유지되지 않음")
+    void get_expiredClaimsAreNotRetained() {
+        // Given
+        JwtClaimsCache cache = new JwtClaimsCache(100);
+        AtomicInteger parseCount = new AtomicInteger();
+        TokenClaims expired = claims(Instant.now().minusSeconds(1));
+
+        // When
+        cache.get("expired", t -> { parseCount.incrementAndGet(); return expired; });
+        cache.get("expired", t -> { parseCount.incrementAndGet(); return expired; });
+
+        // Then
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JwtService: 발급한 토큰을 캐시를 통해 검증")
+    void jwtService_validatesThroughCache() {
+        // Given
+        JwtClaimsCache cache = new JwtClaimsCache(100);
+        JwtService jwtService = new JwtService(SECRET, "k1", List.of(), Duration.ofHours(1), cache);
+        UserDetails user = new User("testuser", "pw", List.of());
+        String token = jwtService.generateToken(user);
+
+        // When
+        String username = jwtService.extractUsername(token);
+        boolean valid = jwtService.validationToken(token, user);
+
+        // Then
+        assertThat(username).isEqualTo("testuser");
+        assertThat(valid).isTrue();
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exp 시각은 Caffeine Ticker 기준으로 계산 (시간을 앞당기면 만료)")
+    void get_expiresByTicker() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        JwtClaimsCache cache = new JwtClaimsCache(100, nanos::get);
+        AtomicInteger parseCount = new AtomicInteger();
+        TokenClaims claims = claims(Instant.now().plusSeconds(60));
+        cache.get("token", t -> { parseCount.incrementAndGet(); return claims; });
+
+        // When: 59초 후에는 적중, 61초 후에는 만료되어 다시 파싱
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get("token", t -> { parseCount.incrementAndGet(); return claims; });
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.get("token", t -> { parseCount.incrementAndGet(); return claims; });
+
+        // Then
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 값은 jjwt Claims 와 분리된 불변 스냅샷")
+    void tokenClaims_isImmutableSnapshot() {
+        // Given
+        Claims source = Jwts.claims().setSubject("testuser");
+        source.put("uid", 1);
+        List<String> roles = new ArrayList<>(List.of("ROLE_USER"));
+        source.put("roles", roles);
+        source.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        TokenClaims snapshot = TokenClaims.from(source);
+        source.setSubject("admin");
+        roles.add("ROLE_ADMIN");
+
+        // Then
+        assertThat(snapshot.subject()).isEqualTo("testuser");
+        assertThat(snapshot.uid()).isEqualTo(1L);
+        assertThat(snapshot.roles()).containsExactly("ROLE_USER");
+        assertThatThrownBy(() -> snapshot.roles().add("ROLE_ADMIN")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static TokenClaims claims(Instant expiration) {
+        return new TokenClaims("testuser", 1L, List.of("ROLE_USER"), expiration);
+    }
+}
@@ -0,0 +1,130 @@
+package com.fullstack.backend_api.service;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtService 단위 테스트 (kid 헤더, 키 교체)")
+class JwtServiceTest {
+
+    private static final String OLD_SECRET = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+    private static final String NEW_SECRET = "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB=";
+
+    @Test
+    @DisplayName("발급 토큰 헤더에 현재 kid 를 기록하고 uid/roles 클레임을 포함")
+    void createToken_writesKeyIdAndClaims() {
+        // Given
+        JwtService jwtService = engine(OLD_SECRET, "k1", List.of());
+
+        // When
+        String token = jwtService.createToken("testuser", 1L, List.of("ROLE_USER"));
+
+        // Then
+        assertThat(keyId(token)).isEqualTo("k1");
+        TokenClaims claims = jwtService.extractAllClaims(token);
+        assertThat(claims.subject()).isEqualTo("testuser");
+        assertThat(claims.uid()).isEqualTo(1L);
+        assertThat(claims.roles()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("키 교체 후: 새 kid 로 발급하고, 이전 kid 토큰은 만료 전까지 검증")
+    void rotation_previousKeyStillVerifies() {
+        // Given
+        String issuedBeforeRotation = engine(OLD_SECRET, "k1", List.of()).createToken("testuser", 1L, List.of("ROLE_USER"));
+        JwtService rotated = engine(NEW_SECRET, "k2", List.of("k1:" + OLD_SECRET));
+
+        // When
+        String issuedAfterRotation = rotated.createToken("testuser", 1L, List.of("ROLE_USER"));
+
+        // Then
+        assertThat(keyId(issuedAfterRotation)).isEqualTo("k2");
+        assertThat(rotated.extractUsername(issuedBeforeRotation)).isEqualTo("testuser");
+        assertThat(rotated.extractUsername(issuedAfterRotation)).isEqualTo("testuser");
+    }
+
+    @Test
+    @DisplayName("이전 키 목록에서 빠진 kid, 모르는 kid, kid 와 다른 키로 서명한 토큰은 거부")
+    void unknownOrMismatchedKey_rejected() {
+        // Given
+        String oldToken = engine(OLD_SECRET, "k1", List.of()).createToken("testuser", null, List.of("ROLE_USER"));
+        JwtService retired = engine(NEW_SECRET, "k2", List.of());
+        String forged = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "k2")
+                .setSubject("admin")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OLD_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> retired.extractAllClaims(oldToken)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> retired.extractAllClaims(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("kid 가 없는 토큰(kid 도입 전 발급분)은 현재 키로 검증")
+    void tokenWithoutKeyId_verifiedWithCurrentKey() {
+        // Given
+        JwtService jwtService = engine(OLD_SECRET, "k1", List.of());
+        String legacy = Jwts.builder()
+                .setSubject("testuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OLD_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertThat(jwtService.extractUsername(legacy)).isEqualTo("testuser");
+    }
+
+    @Test
+    @DisplayName("서명은 유효하지만 sub 가 없는 토큰은 예외 없이 검증 실패")
+    void tokenWithoutSubject_notValid() {
+        // Given
+        JwtService jwtService = engine(OLD_SECRET, "k1", List.of());
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "k1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OLD_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+        UserDetails user = User.withUsername("testuser").password("").roles("USER").build();
+
+        // When & Then
+        assertThat(jwtService.extractAllClaims(token).subject()).isNull();
+        assertThat(jwtService.validationToken(token, user)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 키 설정 형식 오류는 기동 시 실패")
+    void invalidPreviousKeys_failFast() {
+        assertThatThrownBy(() -> engine(NEW_SECRET, "k2", List.of(OLD_SECRET)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kid:Base64");
+        assertThatThrownBy(() -> engine(NEW_SECRET, "k2", List.of("k2:" + OLD_SECRET)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("중복");
+    }
+
+    private static JwtService engine(String secret, String keyId, List<String> previousKeys) {
+        return new JwtService(secret, keyId, previousKeys, Duration.ofHours(1), new JwtClaimsCache(100));
+    }
+
+    // 서명 검증 없이 헤더의 kid 만 확인
+    private static String keyId(String token) {
+        String unsigned = token.substring(0, token.lastIndexOf('.') + 1);
+        return (String) Jwts.parserBuilder().build().parseClaimsJwt(unsigned).getHeader().get(JwsHeader.KEY_ID);
+    }
+}
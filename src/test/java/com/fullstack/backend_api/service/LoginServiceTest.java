@@ -0,0 +1,162 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.AuthResponse;
+import com.fullstack.backend_api.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginService 단위 테스트 (인증 결과 재사용, 대기열 제한, 낮은 cost 해시 재해시)")
+class LoginServiceTest {
+
+    private static final String SECRET = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+
+    private final JwtService jwtService = new JwtService(SECRET, "k1", List.of(), Duration.ofHours(1), new JwtClaimsCache(100));
+    private LoginService loginService;
+
+    @AfterEach
+    void tearDown() {
+        if (loginService != null) {
+            loginService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("인증 결과의 Principal 로 토큰 발급 (사용자를 다시 조회하지 않음)")
+    void login_usesAuthenticatedPrincipal() {
+        // Given
+        Member member = member("encoded");
+        AtomicInteger authenticateCount = new AtomicInteger();
+        AuthenticationManager manager = authentication -> {
+            authenticateCount.incrementAndGet();
+            return UsernamePasswordAuthenticationToken.authenticated(member, null, member.getAuthorities());
+        };
+        loginService = new LoginService(manager, jwtService, 1, 1, Duration.ofSeconds(5));
+
+        // When
+        AuthResponse response = loginService.login("testuser", "password123").join();
+
+        // Then
+        assertThat(authenticateCount.get()).isEqualTo(1);
+        assertThat(response.getUsername()).isEqualTo("testuser");
+        assertThat(jwtService.extractAllClaims(response.getToken()).uid()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 503 거절")
+    void login_queueFull_rejectedImmediately() throws Exception {
+        // Given: 스레드 1 개, 대기열 1 개
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AuthenticationManager blocking = authentication -> {
+            started.countDown();
+            await(release);
+            throw new BadCredentialsException("bad");
+        };
+        loginService = new LoginService(blocking, jwtService, 1, 1, Duration.ofSeconds(5));
+        CompletableFuture<AuthResponse> running = loginService.login("a", "p");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<AuthResponse> queued = loginService.login("b", "p");
+
+        // When & Then
+        assertThatThrownBy(() -> loginService.login("c", "p"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThatThrownBy(running::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(queued::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("대기열에서 max-queue-wait 이상 기다린 요청은 비밀번호를 검증하지 않고 503")
+    void login_waitedTooLong_rejectedWithoutAuthentication() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger authenticateCount = new AtomicInteger();
+        AuthenticationManager blocking = authentication -> {
+            authenticateCount.incrementAndGet();
+            await(release);
+            throw new BadCredentialsException("bad");
+        };
+        loginService = new LoginService(blocking, jwtService, 1, 1, Duration.ofMillis(50));
+        CompletableFuture<AuthResponse> running = loginService.login("a", "p");
+        CompletableFuture<AuthResponse> queued = loginService.login("b", "p");
+
+        // When
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(running::join).hasCauseInstanceOf(BadCredentialsException.class);
+        assertThat(authenticateCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 설정보다 낮은 cost 의 해시만 현재 cost 로 다시 저장")
+    void login_lowerCostHash_rehashed() {
+        // Given: 저장된 해시 cost 4, 설정 cost 5
+        Member member = member(new BCryptPasswordEncoder(4).encode("password123"));
+        AtomicReference<String> stored = new AtomicReference<>();
+        UserDetailsPasswordService passwordService = (user, newPassword) -> {
+            stored.set(newPassword);
+            member.changePassword(newPassword);
+            return member;
+        };
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> member);
+        provider.setPasswordEncoder(new BCryptPasswordEncoder(5));
+        provider.setUserDetailsPasswordService(passwordService);
+        loginService = new LoginService(new ProviderManager(provider), jwtService, 1, 1, Duration.ofSeconds(5));
+
+        // When
+        loginService.login("testuser", "password123").join();
+        String rehashed = stored.get();
+        stored.set(null);
+        loginService.login("testuser", "password123").join();
+
+        // Then: 한 번만 재해시되고 이후 로그인은 그대로
+        assertThat(rehashed).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder(5).matches("password123", rehashed)).isTrue();
+        assertThat(stored.get()).isNull();
+    }
+
+    private static Member member(String encodedPassword) {
+        return Member.builder()
+                .id(1L)
+                .username("testuser")
+                .password(encodedPassword)
+                .role("ROLE_USER")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
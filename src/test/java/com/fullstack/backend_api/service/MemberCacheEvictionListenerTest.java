@@ -0,0 +1,63 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MemberCacheEvictionListener 단위 테스트 (flush 시 제거 + 커밋 후 제거)")
+class MemberCacheEvictionListenerTest {
+
+    private final MemberCache memberCache = new MemberCache(true, 100, Duration.ofMinutes(10));
+    private final MemberCacheEvictionListener listener = new MemberCacheEvictionListener(memberCache);
+
+    private final Member member = Member.builder()
+            .id(1L)
+            .username("testuser")
+            .password("encoded")
+            .role("ROLE_ADMIN")
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("flush 와 커밋 사이에 다시 캐시된 이전 값도 커밋 후 제거")
+    void evict_staleEntryCachedBeforeCommit_removedAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        memberCache.get("testuser", u -> new MemberSnapshot(1L, "testuser", "ROLE_USER"));
+
+        // When: flush 시점 제거 후, 커밋 전 다른 요청이 이전 권한을 다시 캐시
+        listener.evict(member);
+        assertThat(memberCache.getNativeCache().getIfPresent("testuser")).isNull();
+        memberCache.get("testuser", u -> new MemberSnapshot(1L, "testuser", "ROLE_USER"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(memberCache.getNativeCache().getIfPresent("testuser")).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 제거만 수행")
+    void evict_withoutTransaction_removesImmediately() {
+        // Given
+        memberCache.get("testuser", u -> MemberSnapshot.from(member));
+
+        // When
+        listener.evict(member);
+
+        // Then
+        assertThat(memberCache.getNativeCache().getIfPresent("testuser")).isNull();
+    }
+}
@@ -0,0 +1,151 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.OutboxEvent;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.dto.ModerationResult;
+import com.fullstack.backend_api.exception.PermissionDeniedException;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.storage.AttachmentStorage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("ModerationService 청크 단위 일괄 삭제 테스트")
+class ModerationServiceTest {
+
+    private static final int CHUNK_SIZE = 50;
+    private static final String FILE_HASH = "a".repeat(64);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AttachmentStorage attachmentStorage = mock(AttachmentStorage.class);
+    private final OutboxPublisher outboxPublisher = mock(OutboxPublisher.class);
+    private ModerationService moderationService;
+    private Member spammer;
+    private Member reader;
+    private Post spamPost;
+    private Post readerPost;
+
+    @BeforeEach
+    void setUp() {
+        spammer = userRepository.save(Member.builder().username("spammer").password("password").role("ROLE_USER").build());
+        reader = userRepository.save(Member.builder().username("reader").password("password").role("ROLE_USER").build());
+        spamPost = postRepository.save(Post.builder().title("스팸").content("내용").author(spammer).fileHash(FILE_HASH).build());
+        readerPost = postRepository.save(Post.builder().title("일반 글").content("내용").author(reader).build());
+
+        // 스팸 글에 독자 댓글 130개, 일반 글에 스팸 댓글 70개 + 독자 댓글 1개
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            comments.add(Comment.builder().content("독자" + i).post(spamPost).author(reader).build());
+        }
+        for (int i = 0; i < 70; i++) {
+            comments.add(Comment.builder().content("스팸" + i).post(readerPost).author(spammer).build());
+        }
+        comments.add(Comment.builder().content("독자 댓글").post(readerPost).author(reader).build());
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+        postRepository.addCommentCount(spamPost.getId(), 130);
+        postRepository.addCommentCount(readerPost.getId(), 71);
+        entityManager.clear();
+
+        moderationService = new ModerationService(postRepository, commentRepository, userRepository, attachmentStorage,
+                new PostDetailCache(new ConcurrentMapCache(PostDetailCache.CACHE_NAME)), outboxPublisher, transactionManager, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제: 댓글을 엔티티 로드 없이 청크 단위로 삭제 후 게시글 삭제")
+    void deletePost_chunkedWithoutLoadingEntities() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        ModerationResult result = moderationService.deletePost(spamPost.getId(), List.of("ROLE_ADMIN"));
+
+        // Then
+        assertThat(result).isEqualTo(new ModerationResult(1, 130));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(postRepository.existsById(spamPost.getId())).isFalse();
+        assertThat(commentRepository.count()).isEqualTo(71);
+        verify(attachmentStorage).release(FILE_HASH);
+        verify(outboxPublisher).publish(OutboxEvent.Type.POST_DELETED, spamPost.getId(), null);
+        // 삭제될 게시글의 댓글은 댓글별 이벤트 없이 POST_DELETED 하나로 대신함
+        verify(outboxPublisher, never()).publish(eq(OutboxEvent.Type.COMMENT_DELETED), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("회원 콘텐츠 삭제: 회원의 댓글과 게시글(다른 회원 댓글 포함) 삭제, 남은 게시글 댓글 수 조정")
+    void deleteContentByAuthor_removesPostsAndComments() {
+        // When
+        ModerationResult result = moderationService.deleteContentByAuthor(spammer.getId(), List.of("ROLE_ADMIN"));
+
+        // Then
+        assertThat(result).isEqualTo(new ModerationResult(1, 200));
+        entityManager.clear();
+        assertThat(postRepository.findAll()).extracting(Post::getId).containsExactly(readerPost.getId());
+        assertThat(commentRepository.findAll()).extracting(Comment::getContent).containsExactly("독자 댓글");
+        assertThat(postRepository.findById(readerPost.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+        // 남는 게시글에서 지운 회원 댓글만 댓글별 이벤트, 삭제된 게시글은 POST_DELETED 만
+        verify(outboxPublisher, times(70)).publish(eq(OutboxEvent.Type.COMMENT_DELETED), eq(readerPost.getId()), anyLong());
+        verify(outboxPublisher, never()).publish(eq(OutboxEvent.Type.COMMENT_DELETED), eq(spamPost.getId()), anyLong());
+        verify(outboxPublisher).publish(OutboxEvent.Type.POST_DELETED, spamPost.getId(), null);
+    }
+
+    @Test
+    @DisplayName("권한 없음: 삭제 전에 거부되어 아무것도 삭제되지 않음")
+    void nonAdmin_rejectedUpFront() {
+        // When / Then
+        assertThatThrownBy(() -> moderationService.deleteContentByAuthor(spammer.getId(), List.of("ROLE_USER")))
+                .isInstanceOf(PermissionDeniedException.class);
+        assertThatThrownBy(() -> moderationService.deletePost(spamPost.getId(), null))
+                .isInstanceOf(PermissionDeniedException.class);
+        assertThat(postRepository.count()).isEqualTo(2);
+        assertThat(commentRepository.count()).isEqualTo(201);
+    }
+}
@@ -3,23 +3,33 @@ package com.fullstack.backend_api.service;
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
 
+import com.fullstack.backend_api.domain.OutboxEvent;
 import com.fullstack.backend_api.domain.Post;
 import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.dto.PostDetail;
+import com.fullstack.backend_api.dto.PostOwner;
 import com.fullstack.backend_api.dto.PostRequestDto;
 import com.fullstack.backend_api.dto.PostResponseDto;
+import com.fullstack.backend_api.dto.ResourceVersion;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
 import com.fullstack.backend_api.repository.PostRepository;
 import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.storage.AttachmentStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +45,21 @@ public class PostServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private ViewCountAggregator viewCountAggregator;
+
+    @Mock
+    private AttachmentStorage attachmentStorage;
+
+    @Spy
+    private PostDetailCache postDetailCache = new PostDetailCache(new ConcurrentMapCache(PostDetailCache.CACHE_NAME));
+
     @InjectMocks
     private PostService postService; // 💡 테스트 대상 객체 (Mock이 주입됨)
 
@@ -152,40 +177,120 @@ public class PostServiceTest {
     @Test
     @DisplayName("게시글 단건 조회 성공")
     void getPost_success() {
-        // Given (준비): ID가 1L인 Post 엔티티를 생성합니다.
+        // Given (준비): ID가 1L인 게시글 응답 DTO를 준비합니다.
         Long postId = 1L;
-        Post post = Post.builder()
+        PostResponseDto post = PostResponseDto.builder()
                 .id(postId)
                 .title("조회 테스트")
                 .content("조회 내용")
-                .author(TEST_USER)
+                .author(TEST_USER.getUsername())
                 .build();
 
-        // Mocking: postRepository.findById(1L)이 호출되면,
-        // Optional.of(post) (즉, 데이터가 존재함)를 반환하도록 정의합니다.
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        // Mocking: postRepository.findPostDetailById(1L)이 호출되면,
+        // Optional.of(...) (즉, 데이터가 존재함)를 반환하도록 정의합니다.
+        when(postRepository.findPostDetailById(postId)).thenReturn(Optional.of(new PostDetail(post, null)));
 
         // When (실행): postService.getPost(1L) 메서드를 호출합니다.
         PostResponseDto foundPostDto = postService.getPost(postId);
 
         // Then (검증):
-        // 1. findById()가 1번 호출되었는지 확인
-        verify(postRepository, times(1)).findById(postId);
+        // 1. findPostDetailById()가 1번 호출되었는지 확인
+        verify(postRepository, times(1)).findPostDetailById(postId);
 
         // 2. 반환된 DTO의 ID가 예상대로 1L인지 확인
         assertThat(foundPostDto.getId()).isEqualTo(postId);
         assertThat(foundPostDto.getTitle()).isEqualTo("조회 테스트");
     }
 
+    @Test
+    @DisplayName("게시글 단건 조회: 두 번째 조회는 캐시에서 반환, 수정 후에는 다시 조회")
+    void getPost_cachedUntilUpdated() {
+        // Given
+        Long postId = 1L;
+        Post existingPost = Post.builder()
+                .id(postId)
+                .title("원래 제목")
+                .content("원래 내용")
+                .author(TEST_USER)
+                .build();
+        when(postRepository.findPostDetailById(postId)).thenReturn(Optional.of(new PostDetail(new PostResponseDto(existingPost), null)));
+        when(postRepository.findPostResponseById(postId)).thenReturn(Optional.of(new PostResponseDto(existingPost)));
+        when(postRepository.updateIfAuthor(eq(postId), eq(TEST_USER_NAME), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // When
+        postService.getPost(postId);
+        postService.getPost(postId);
+
+        // Then: 저장소 조회는 한 번, 조회수는 캐시 적중 여부와 관계없이 매번 누적
+        verify(postRepository, times(1)).findPostDetailById(postId);
+        verify(viewCountAggregator, times(2)).increment(postId);
+
+        // When: 수정하면 캐시가 무효화되어 다음 조회는 다시 저장소에서
+        postService.updatePost(postId, PostRequestDto.builder().title("새 제목").content("새 내용").build(), TEST_USER_NAME);
+        postService.getPost(postId);
+
+        // Then: 수정 응답 생성 1회 + 캐시 무효화 후 조회 1회
+        verify(postDetailCache).evict(postId);
+        verify(postRepository, times(1)).findPostResponseById(postId);
+        verify(postRepository, times(2)).findPostDetailById(postId);
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회: 캐시 적중 시에도 호출마다 새 DTO 반환, 반환값을 수정해도 캐시는 그대로")
+    void getPost_cacheReturnsDefensiveCopies() {
+        // Given
+        Long postId = 1L;
+        Post existingPost = Post.builder()
+                .id(postId)
+                .title("원래 제목")
+                .content("원래 내용")
+                .author(TEST_USER)
+                .build();
+        when(postRepository.findPostDetailById(postId)).thenReturn(Optional.of(new PostDetail(new PostResponseDto(existingPost), null)));
+
+        // When
+        PostResponseDto first = postService.getPost(postId);
+        first.setTitle("변경된 제목");
+        PostResponseDto second = postService.getPost(postId);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTitle()).isEqualTo("원래 제목");
+        verify(postRepository, times(1)).findPostDetailById(postId);
+    }
+
+    @Test
+    @DisplayName("조건부 GET 버전: 캐시 적중 시 SQL 없이 캐시된 수정 시각/댓글 수로, 미스 시에만 버전 조회")
+    void getPostVersion_fromCachedSnapshot() {
+        // Given
+        Long postId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        PostResponseDto post = PostResponseDto.builder().id(postId).title("제목").content("내용")
+                .author(TEST_USER_NAME).commentCount(3).build();
+        when(postRepository.findPostDetailById(postId)).thenReturn(Optional.of(new PostDetail(post, modifiedAt)));
+        when(postRepository.findVersionById(postId)).thenReturn(Optional.of(new ResourceVersion(modifiedAt, 3L)));
+
+        // When: 캐시 미스 -> 버전 조회 SQL
+        Optional<ResourceVersion> beforeCached = postService.getPostVersion(postId);
+        postService.getPost(postId);
+        Optional<ResourceVersion> afterCached = postService.getPostVersion(postId);
+
+        // Then
+        assertThat(beforeCached).contains(new ResourceVersion(modifiedAt, 3L));
+        assertThat(afterCached).contains(new ResourceVersion(modifiedAt, 3L));
+        verify(postRepository, times(1)).findVersionById(postId);
+    }
+
     @Test
     @DisplayName("게시글 단건 조회 실패: 게시글 없음")
     void getPost_notFound() {
         // Given (준비): 존재하지 않는 ID를 설정합니다.
         Long notFoundId = 999L;
 
-        // Mocking: postRepository.findById(999L)이 호출되면,
+        // Mocking: postRepository.findPostDetailById(999L)이 호출되면,
         // Optional.empty() (즉, 데이터가 없음)를 반환하도록 정의합니다.
-        when(postRepository.findById(notFoundId)).thenReturn(Optional.empty());
+        when(postRepository.findPostDetailById(notFoundId)).thenReturn(Optional.empty());
 
         // When/Then (실행 및 검증): postService.getPost 호출 시,
         // 지정된 예외(IllegalArgumentException)가 발생하는지 검증합니다.
@@ -193,8 +298,8 @@ public class PostServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 게시글이 존재하지 않습니다. ID: " + notFoundId);
 
-        // 검증: Repository의 findById 메서드가 1번 호출되었는지 확인
-        verify(postRepository, times(1)).findById(notFoundId);
+        // 검증: Repository의 findPostDetailById 메서드가 1번 호출되었는지 확인
+        verify(postRepository, times(1)).findPostDetailById(notFoundId);
     }
 
     @Test
@@ -202,35 +307,32 @@ public class PostServiceTest {
     void updatePost_success() {
         Long postId = 1L;
 
-        // 1. 기존 Post 엔티티 (작성자는 user@test.com)
-        Post existingPost = Post.builder()
-                .id(postId)
-                .title("기존 제목")
-                .content("기존 내용")
-                .author(TEST_USER)
-                .build();
-
-        // 2. 수정 요청 DTO
+        // 1. 수정 요청 DTO
         PostRequestDto updateDto = PostRequestDto.builder()
                 .title("수정된 제목")
                 .content("수정된 내용")
                 .build();
 
-        // Mocking 1: findById 호출 시 기존 게시글을 반환하도록 설정
-        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        // Mocking 1: 작성자 조건부 UPDATE 가 1행을 수정 (작성자는 testuser@mockito.com)
+        when(postRepository.updateIfAuthor(eq(postId), eq(TEST_USER_NAME), eq("수정된 제목"), eq("수정된 내용"), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        // 참고: 서비스 로직에서 수정된 Post 엔티티를 바로 반환하거나,
-        // save()를 호출하지 않고 dirty checking으로 업데이트한다고 가정합니다.
-        // 저희는 간단하게 업데이트 후, 기존 엔티티의 필드를 업데이트했다고 가정합니다.
+        // Mocking 2: 수정된 게시글을 작성자 이름과 함께 조회
+        when(postRepository.findPostResponseById(postId)).thenReturn(Optional.of(PostResponseDto.builder()
+                .id(postId)
+                .title("수정된 제목")
+                .content("수정된 내용")
+                .author(TEST_USER_NAME)
+                .build()));
 
-        // When (실행): postService.updatePost 메서드 호출 (인증된 사용자 user@test.com으로 가정)
-        // 실제 PostService의 updatePost 메서드 시그니처가 (Long postId, PostRequestDto dto, String currentUsername) 형태여야 합니다.
-        // 임시로 user@test.com을 현재 사용자로 가정하여 호출합니다.
+        // When (실행): postService.updatePost 메서드 호출 (인증된 사용자 testuser@mockito.com으로 가정)
         PostResponseDto updatedDto = postService.updatePost(postId, updateDto, TEST_USER.getUsername());
 
         // Then (검증):
-        // 1. findById()가 1번 호출되었는지 확인
-        verify(postRepository, times(1)).findById(postId);
+        // 1. 조건부 UPDATE 1회, 권한 확인을 위한 게시글 엔티티 로드 없음
+        verify(postRepository, times(1)).updateIfAuthor(eq(postId), eq(TEST_USER_NAME), anyString(), anyString(), any(LocalDateTime.class));
+        verify(postRepository, never()).findById(postId);
+        verify(outboxPublisher, times(1)).publish(OutboxEvent.Type.POST_UPDATED, postId, null);
 
         // 2. 반환된 DTO의 내용이 수정된 내용과 알치하는지 확인
         assertThat(updatedDto.getId()).isEqualTo(postId);
@@ -244,25 +346,22 @@ public class PostServiceTest {
     void updatePost_unauthorized() {
         Long postId = 2L;
 
-        // 1. 기존 Post 엔티티 (작성자는 writer@test.com)
-        Post existingPost = Post.builder()
-                .id(postId)
-                .title("기존 제목")
-                .content("기존 내용")
-                .author(WRITER_USER)
-                .build();
-
-        // 2. 수정 요청 DTO (수정 내용은 중요하지 않음)
+        // 1. 수정 요청 DTO (수정 내용은 중요하지 않음)
         PostRequestDto updateDto = PostRequestDto.builder()
                 .title("새 제목")
                 .content("새 내용")
                 .build();
 
-        // 3. 수정 요청자 (currentUsername은 backer@test.com)
+        // 2. 수정 요청자 (currentUsername은 hacker@test.com)
         String unauthorizedUser = "hacker@test.com";
 
-        // Mocking 1: findById 호출 시 기존 게시글을 반환
-        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        // Mocking 1: 작성자 조건이 맞지 않아 UPDATE 0행
+        when(postRepository.updateIfAuthor(eq(postId), eq(unauthorizedUser), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // Mocking 2: 게시글 자체는 존재 (작성자는 writer@mockito.com)
+        when(postRepository.findOwnerById(postId))
+                .thenReturn(Optional.of(new PostOwner(postId, WRITER_USER_ID, WRITER_USER_NAME, null)));
 
         // When/Then (실행 및 검증):
         // updatePost 호출 시 SecurityException이 발생하는지 검증합니다.
@@ -270,8 +369,9 @@ public class PostServiceTest {
                 .isInstanceOf(SecurityException.class)
                 .hasMessageContaining("권한이 없습니다. 본인 작성글만 수정/삭제할 수 있습니다.");
 
-        // 검증: Repository의 save/update 메서드는 호출되지 않았는지 확인
+        // 검증: Repository의 save 메서드와 캐시 무효화는 호출되지 않았는지 확인
         verify(postRepository, never()).save(any(Post.class));
+        verify(postDetailCache, never()).evict(postId);
     }
 
     @Test
@@ -279,31 +379,44 @@ public class PostServiceTest {
     void deletePost_success() {
         Long postId = 3L;
 
-        // 1. 기존 Post 엔티티
-        Post existingPost = Post.builder()
-                .id(postId)
-                .title("삭제 대상")
-                .content("삭제 내용")
-                .author(TEST_USER)
-                .build();
-
-        // Mocking 1: findById 호출 시 기존 게시글을 반환하도록 설정
-        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
-
-        // Mocking 2: deleteById 호출에 대해서는 별다른 반환 값이 없으므로 void로 처리
-        doNothing().when(postRepository).deleteById(postId);
+        // Mocking 1: 작성자/첨부파일 정보만 조회 (게시글 엔티티 로드 없음)
+        when(postRepository.findOwnerById(postId))
+                .thenReturn(Optional.of(new PostOwner(postId, TEST_USER_ID, TEST_USER_NAME, null)));
+        when(postRepository.deleteByIdAndAuthorId(postId, TEST_USER_ID)).thenReturn(1);
 
         // When (실행): postService.deletePost 메서드 호출
         postService.deletePost(postId, TEST_USER_NAME);
 
         // Then (검증):
-        // 1. findById()가 1번 호출되었는지 확인
-        verify(postRepository, times(1)).findById(postId);
-        // 2. deleteById() 메서드가 1번 호출되었는지 확인
-        verify(postRepository, times(1)).deleteById(postId);
+        // 1. 소유 정보 조회 1회, 엔티티 조회 없음
+        verify(postRepository, times(1)).findOwnerById(postId);
+        verify(postRepository, never()).findById(postId);
+        // 2. 댓글 일괄 DELETE 후 작성자 조건부 DELETE
+        verify(commentRepository, times(1)).deleteAllByPostIdInBulk(postId);
+        verify(postRepository, times(1)).deleteByIdAndAuthorId(postId, TEST_USER_ID);
+        verify(outboxPublisher, times(1)).publish(OutboxEvent.Type.POST_DELETED, postId, null);
+    }
 
-        // Then (검증):
-//        verify(postRepository, times(1)).delete(existingPost);
+    @Test
+    @DisplayName("게시글 삭제 경합: 같은 게시글을 두 번 삭제하면 두 번째는 블롭 해제/이벤트 없이 404")
+    void deletePost_twice_releasesBlobOnce() {
+        // Given: 두 요청 모두 소유 정보 조회를 통과하고, DELETE 는 첫 번째만 일치
+        Long postId = 5L;
+        String fileHash = "a".repeat(64);
+        when(postRepository.findOwnerById(postId))
+                .thenReturn(Optional.of(new PostOwner(postId, TEST_USER_ID, TEST_USER_NAME, fileHash)));
+        when(postRepository.deleteByIdAndAuthorId(postId, TEST_USER_ID)).thenReturn(1, 0);
+
+        // When
+        postService.deletePost(postId, TEST_USER_NAME);
+        Throwable second = catchThrowable(() -> postService.deletePost(postId, TEST_USER_NAME));
+
+        // Then
+        assertThat(second).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해당 게시글이 존재하지 않습니다.");
+        verify(attachmentStorage, times(1)).release(fileHash);
+        verify(postDetailCache, times(1)).evict(postId);
+        verify(outboxPublisher, times(1)).publish(OutboxEvent.Type.POST_DELETED, postId, null);
     }
 
     @Test
@@ -312,19 +425,9 @@ public class PostServiceTest {
         Long postId = 4L;
         String OTHER_USER_NAME = "other_user";
 
-        // 1. 기존 Post 엔티티 (작성자는 writer@test.com)
-        Post existingPost = Post.builder()
-                .id(postId)
-                .title("삭제 대상")
-                .content("삭제 내용")
-                .author(TEST_USER)
-                .build();
-
-        // 2. 삭제 요청자
-//        String unauthorizedUser = "hacker@test.com";
-
-        // Mocking 1: findById 호출 시 기존 게시글을 반환
-        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        // Mocking 1: 게시글 작성자는 testuser@mockito.com
+        when(postRepository.findOwnerById(postId))
+                .thenReturn(Optional.of(new PostOwner(postId, TEST_USER_ID, TEST_USER_NAME, null)));
 
         // When/Then (실행 및 검증):
         // deletePost 호출 시 SecurityException이 발생하는지 검증합니다.
@@ -332,8 +435,9 @@ public class PostServiceTest {
                 .isInstanceOf(SecurityException.class)
                 .hasMessageContaining("권한이 없습니다. 본인 작성글만 수정/삭제할 수 있습니다.");
 
-        // 검증: deleteById 메서드가 호출되지 않았는지 확인 (권한 예외가 발생했으므로 호출되면 안됨)
-        verify(postRepository, never()).deleteById(postId);
+        // 검증: DELETE 가 실행되지 않았는지 확인 (권한 예외가 발생했으므로 호출되면 안됨)
+        verify(commentRepository, never()).deleteAllByPostIdInBulk(postId);
+        verify(postRepository, never()).deleteByIdAndAuthorId(any(), any());
     }
 
     @Test
@@ -341,13 +445,13 @@ public class PostServiceTest {
     void getPosts_paging_success() {
         // Given
         Pageable pageable = PageRequest.of(0, 5, Sort.by("createdAt").descending());
-        List<Post> posts = Arrays.asList(
-                Post.builder().title("제목1").content("내용1").author(TEST_USER).build(),
-                Post.builder().title("제목2").content("내용2").author(TEST_USER).build()
+        List<PostResponseDto> posts = Arrays.asList(
+                PostResponseDto.builder().title("제목1").content("내용1").author(TEST_USER_NAME).build(),
+                PostResponseDto.builder().title("제목2").content("내용2").author(TEST_USER_NAME).build()
         );
-        Page<Post> postPage = new PageImpl<>(posts, pageable, posts.size());
+        Page<PostResponseDto> postPage = new PageImpl<>(posts, pageable, posts.size());
 
-        when(postRepository.findAll(pageable)).thenReturn(postPage);
+        when(postRepository.findPostResponses(pageable)).thenReturn(postPage);
 
         // When
         Page<PostResponseDto> result = postService.getposts(pageable);
@@ -356,6 +460,7 @@ public class PostServiceTest {
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("제목1");
-        verify(postRepository, times(1)).findAll(pageable);
+        verify(postRepository, times(1)).findPostResponses(pageable);
+        verify(postRepository, never()).findAll(pageable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostUserDetailsService 단위 테스트")
+class PostUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private MemberCache memberCache = new MemberCache(true, 100, Duration.ofMinutes(10));
+
+    @InjectMocks
+    private PostUserDetailsService userDetailsService;
+
+    private static final Instant EXPIRATION = Instant.now().plusSeconds(60);
+
+    private final Member TEST_USER = Member.builder()
+            .id(1L)
+            .username("testuser")
+            .password("encoded")
+            .role("ROLE_USER")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDetailsService, "statelessAuth", true);
+    }
+
+    @Test
+    @DisplayName("stateless 모드: 클레임만으로 Principal 구성, DB 조회 없음")
+    void loadUserByClaims_stateless_noRepositoryCall() {
+        // Given
+        TokenClaims claims = new TokenClaims("testuser", 1L, List.of("ROLE_USER"), EXPIRATION);
+
+        // When
+        UserDetails user = userDetailsService.loadUserByClaims(claims);
+
+        // Then
+        assertThat(user.getUsername()).isEqualTo("testuser");
+        assertThat(user.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(((Member) user).getId()).isEqualTo(1L);
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("roles 클레임이 없으면 캐시를 거쳐 한 번만 DB 조회")
+    void loadUserByClaims_withoutRoles_usesCache() {
+        // Given
+        TokenClaims claims = new TokenClaims("testuser", 1L, List.of(), EXPIRATION);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(TEST_USER));
+
+        // When
+        userDetailsService.loadUserByClaims(claims);
+        userDetailsService.loadUserByClaims(claims);
+
+        // Then
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("sub 클레임이 없는 토큰은 캐시/DB 조회 없이 UsernameNotFoundException (필터에서 미인증 처리)")
+    void loadUserByClaims_withoutSubject_rejected() {
+        // Given
+        TokenClaims statelessClaims = new TokenClaims(null, 1L, List.of("ROLE_USER"), EXPIRATION);
+        TokenClaims cachedClaims = new TokenClaims(null, null, List.of(), EXPIRATION);
+
+        // When & Then
+        assertThatThrownBy(() -> userDetailsService.loadUserByClaims(statelessClaims))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserByClaims(cachedClaims))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("uid 클레임이 없는 토큰은 DB 기반 스냅샷으로 구성 (회원 ID 가 비어 있는 Principal 을 만들지 않음)")
+    void loadUserByClaims_withoutUid_loadsMemberId() {
+        // Given
+        TokenClaims claims = new TokenClaims("testuser", null, List.of("ROLE_USER"), EXPIRATION);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(TEST_USER));
+
+        // When
+        UserDetails user = userDetailsService.loadUserByClaims(claims);
+
+        // Then
+        assertThat(((Member) user).getId()).isEqualTo(1L);
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("캐시는 비밀번호 없는 불변 스냅샷을 보관하고, 요청마다 새 Principal 반환")
+    void loadUserByClaims_cachesSnapshotWithoutPassword() {
+        // Given
+        TokenClaims claims = new TokenClaims("testuser", 1L, List.of(), EXPIRATION);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(TEST_USER));
+
+        // When
+        UserDetails first = userDetailsService.loadUserByClaims(claims);
+        UserDetails second = userDetailsService.loadUserByClaims(claims);
+
+        // Then
+        assertThat(memberCache.getNativeCache().getIfPresent("testuser"))
+                .isEqualTo(new MemberSnapshot(1L, "testuser", "ROLE_USER"));
+        assertThat(first).isNotSameAs(second).isNotSameAs(TEST_USER);
+        assertThat(first.getPassword()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그인(loadUserByUsername)은 캐시를 거치지 않고 DB 의 비밀번호 해시를 읽음")
+    void loadUserByUsername_bypassesCache() {
+        // Given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(TEST_USER));
+
+        // When
+        UserDetails user = userDetailsService.loadUserByUsername("testuser");
+
+        // Then
+        assertThat(user.getPassword()).isEqualTo("encoded");
+        assertThat(memberCache.getNativeCache().getIfPresent("testuser")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 후에는 다시 DB 조회")
+    void evictUser_reloadsFromRepository() {
+        // Given
+        TokenClaims claims = new TokenClaims("testuser", 1L, List.of(), EXPIRATION);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(TEST_USER));
+        userDetailsService.loadUserByClaims(claims);
+
+        // When
+        userDetailsService.evictUser("testuser");
+        userDetailsService.loadUserByClaims(claims);
+
+        // Then
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("비밀번호 재해시: 조회한 엔티티의 해시를 교체 (커밋 시 엔티티 리스너가 캐시 무효화)")
+    void updatePassword_changesManagedMember() {
+        // Given
+        Member managed = Member.builder().id(1L).username("testuser").password("old-hash").role("ROLE_USER").build();
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(managed));
+
+        // When
+        UserDetails updated = userDetailsService.updatePassword(TEST_USER, "new-hash");
+
+        // Then
+        assertThat(updated).isSameAs(managed);
+        assertThat(managed.getPassword()).isEqualTo("new-hash");
+        verify(memberCache, never()).get(anyString(), any());
+    }
+}
@@ -0,0 +1,163 @@
+package com.fullstack.backend_api.service;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import com.fullstack.backend_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+// 집계기가 직접 트랜잭션을 커밋하므로 테스트 트랜잭션으로 감싸지 않고, 데이터는 @AfterEach 에서 정리
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("ViewCountAggregator 조회수 집계/반영 테스트")
+class ViewCountAggregatorTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ViewCountAggregator aggregator;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member author = userRepository.save(Member.builder()
+                .username("viewer")
+                .password("password")
+                .role("ROLE_USER")
+                .build());
+        postId = postRepository.save(Post.builder()
+                .title("조회수")
+                .content("내용")
+                .author(author)
+                .build()).getId();
+        aggregator = new ViewCountAggregator(jdbcTemplate, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 조회: 증가분이 한 번의 반영으로 정확히 누적되고, 반영 후에는 남은 증가분이 없음")
+    void concurrentIncrements_flushedExactlyOnce() throws Exception {
+        // Given
+        int threads = 8;
+        int viewsPerThread = 1_000;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        aggregator.increment(postId);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertThat(viewCount()).isZero();
+
+        // When
+        int flushed = aggregator.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(viewCount()).isEqualTo((long) threads * viewsPerThread);
+        assertThat(aggregator.pendingViews(postId)).isZero();
+        assertThat(aggregator.flush()).isZero();
+        assertThat(viewCount()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("반영 실패: 증가분을 유지했다가 다음 반영에서 한 번만 누적")
+    void failedFlush_retainsDeltas() {
+        // Given: 첫 batch UPDATE 만 실패하는 JdbcTemplate
+        JdbcTemplate failingOnce = spy(jdbcTemplate);
+        doThrow(new QueryTimeoutException("DB 응답 없음"))
+                .doCallRealMethod()
+                .when(failingOnce).batchUpdate(anyString(), anyList());
+        ViewCountAggregator flaky = new ViewCountAggregator(failingOnce, transactionManager);
+        flaky.increment(postId);
+        flaky.increment(postId);
+
+        // When / Then: 실패 시 DB 는 그대로, 증가분 유지
+        assertThat(flaky.flush()).isZero();
+        assertThat(viewCount()).isZero();
+        assertThat(flaky.pendingViews(postId)).isEqualTo(2);
+
+        // When / Then: 다음 주기에 실패분과 새 조회가 함께 반영
+        flaky.increment(postId);
+        assertThat(flaky.flush()).isEqualTo(1);
+        assertThat(viewCount()).isEqualTo(3);
+        assertThat(flaky.pendingViews(postId)).isZero();
+    }
+
+    @Test
+    @DisplayName("비정상 종료: 마지막 반영 이후의 조회수만 유실, 정상 종료 시에는 모두 반영")
+    void crashLosesOnlyUnflushedViews() {
+        // Given: 5회 조회 후 반영, 2회 추가 조회 (미반영)
+        for (int i = 0; i < 5; i++) {
+            aggregator.increment(postId);
+        }
+        aggregator.flush();
+        aggregator.increment(postId);
+        aggregator.increment(postId);
+
+        // When: 반영 없이 프로세스가 죽고 새 인스턴스로 재시작
+        ViewCountAggregator restarted = new ViewCountAggregator(jdbcTemplate, transactionManager);
+        restarted.flush();
+
+        // Then: 반영된 5회만 남고, 미반영 2회는 유실 (유실 범위 = 최대 flush-interval 동안의 조회수)
+        assertThat(viewCount()).isEqualTo(5);
+
+        // When: 재시작 후 조회, 정상 종료
+        restarted.increment(postId);
+        restarted.increment(postId);
+        restarted.flushOnShutdown();
+
+        // Then
+        assertThat(viewCount()).isEqualTo(7);
+    }
+
+    private long viewCount() {
+        return jdbcTemplate.queryForObject("select view_count from post where id = ?", Long.class, postId);
+    }
+}
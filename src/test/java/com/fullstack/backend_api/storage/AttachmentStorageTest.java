@@ -0,0 +1,157 @@
+package com.fullstack.backend_api.storage;
+
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.exception.PayloadTooLargeException;
+import com.fullstack.backend_api.repository.AttachmentBlobRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({JpaConfig.class, RepositoryTestConfig.class})
+@DisplayName("AttachmentStorage 테스트 (내용 주소 저장, 참조 수, GC)")
+class AttachmentStorageTest {
+
+    @TempDir
+    Path storageDir;
+
+    @Autowired
+    private AttachmentBlobRepository blobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private AttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new AttachmentStorage(storageDir.toString(), DataSize.ofKilobytes(256), blobRepository);
+    }
+
+    @Test
+    @DisplayName("다운로드 조회: 저장된 블롭만 찾고, 이전 방식 경로/저장소 밖 경로/없는 파일은 empty")
+    void find_onlyStoredBlobs() throws Exception {
+        // Given
+        StoredAttachment stored = storage.store(new ByteArrayInputStream(randomBytes(16)), "a.png");
+
+        // When & Then
+        assertThat(storage.find(stored.storedName())).contains(stored.path());
+        assertThat(storage.find("/files/legacy.png")).isEmpty();
+        assertThat(storage.find("../outside.png")).isEmpty();
+        assertThat(storage.find("ab/" + "0".repeat(64))).isEmpty();
+        assertThat(storage.find("bad\0name")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼 크기보다 큰 파일도 그대로 저장하고 SHA-256 경로에 기록")
+    void store_writesContentAndHash() throws Exception {
+        // Given
+        byte[] content = randomBytes(200 * 1024);
+
+        // When
+        StoredAttachment stored = storage.store(new ByteArrayInputStream(content), "보고서.pdf");
+
+        // Then
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(stored.sha256()).isEqualTo(hash);
+        assertThat(stored.storedName()).isEqualTo(hash.substring(0, 2) + "/" + hash);
+        assertThat(stored.originalName()).isEqualTo("보고서.pdf");
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(stored.path())).isEqualTo(content);
+        assertThat(storageDir.resolve(".tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("같은 내용을 여러 번 올리면 파일은 하나, 참조 수만 증가")
+    void store_deduplicates() throws Exception {
+        // Given
+        byte[] content = randomBytes(1024);
+
+        // When
+        StoredAttachment first = storage.store(new ByteArrayInputStream(content), "a.png");
+        StoredAttachment second = storage.store(new ByteArrayInputStream(content), "b.png");
+
+        // Then (참조 수는 벌크 update 로 DB 에서 증가하므로 영속성 컨텍스트를 비우고 확인)
+        entityManager.clear();
+        assertThat(second.storedName()).isEqualTo(first.storedName());
+        assertThat(blobRepository.findById(first.sha256())).get()
+                .satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+        try (var files = Files.list(first.path().getParent())) {
+            assertThat(files).hasSize(1);
+        }
+        assertThat(storageDir.resolve(".tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("참조가 모두 해제되고 유예 시간이 지난 블롭만 GC 로 삭제")
+    void collectGarbage_deletesOnlyUnreferenced() throws Exception {
+        // Given
+        StoredAttachment shared = storage.store(new ByteArrayInputStream(randomBytes(512)), "shared.bin");
+        storage.store(new ByteArrayInputStream(randomBytes(512, 7)), "other.bin");
+        StoredAttachment orphan = storage.store(new ByteArrayInputStream(randomBytes(512, 9)), "orphan.bin");
+        storage.store(new ByteArrayInputStream(randomBytes(512)), "shared-copy.bin");
+
+        storage.release(shared.sha256());  // 참조 2 → 1
+        storage.release(orphan.sha256());  // 참조 1 → 0
+
+        // When: 유예 시간 이전 기준으로는 아무것도 삭제하지 않음
+        int beforeGrace = storage.collectGarbage(LocalDateTime.now().minusHours(1), 100);
+        int afterGrace = storage.collectGarbage(LocalDateTime.now().plusSeconds(1), 100);
+
+        // Then
+        assertThat(beforeGrace).isZero();
+        assertThat(afterGrace).isEqualTo(1);
+        assertThat(orphan.path()).doesNotExist();
+        assertThat(blobRepository.existsById(orphan.sha256())).isFalse();
+        assertThat(shared.path()).exists();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 413 예외, 임시 파일/블롭 모두 남지 않음")
+    void store_tooLarge_leavesNoFile() {
+        // When & Then
+        assertThatThrownBy(() -> storage.store(new ByteArrayInputStream(new byte[300 * 1024]), "big.bin"))
+                .isInstanceOf(PayloadTooLargeException.class);
+        assertThat(storageDir.resolve(".tmp")).isEmptyDirectory();
+        assertThat(blobRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("경로 구분자가 포함된 원본 파일명은 정리되어 저장")
+    void store_sanitizesFileName() throws Exception {
+        // When
+        StoredAttachment stored = storage.store(new ByteArrayInputStream(new byte[]{1}), "../../etc/passwd");
+
+        // Then
+        assertThat(stored.path()).startsWith(storageDir.toAbsolutePath().normalize());
+        assertThat(stored.originalName()).doesNotContain("/");
+    }
+
+    private static byte[] randomBytes(int size) {
+        return randomBytes(size, 42);
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
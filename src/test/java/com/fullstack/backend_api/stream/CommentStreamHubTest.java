@@ -0,0 +1,172 @@
+package com.fullstack.backend_api.stream;
+
+import com.fullstack.backend_api.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("CommentStreamHub 테스트 (구독 게시글에만 발행, Last-Event-ID 이어받기, 보관 범위 밖이면 reset, 구독자 수 제한)")
+class CommentStreamHubTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE);
+
+    private CommentStreamHub hub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 구독자 큐 / 게시글별 보관 이벤트 3개
+        hub = new CommentStreamHub(3, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(hub)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 중인 게시글의 이벤트만 순서대로 전달하고, 구독자가 없는 게시글 이벤트는 버림")
+    void publish_deliveredToSubscribersOfPost() throws Exception {
+        // Given
+        hub.publish(1L, "comment-created", "{\"id\":9}");  // 구독 전: 보관하지 않음
+        assertThat(hub.isWatched(1L)).isFalse();
+        MvcResult subscriber = subscribe(1L, null);
+
+        // When
+        hub.publish(1L, "comment-created", "{\"id\":10}");
+        hub.publish(1L, "comment-deleted", "{\"id\":10}");
+        hub.publish(2L, "comment-created", "{\"id\":20}");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(body(subscriber)).contains("event:comment-deleted"));
+        assertThat(hub.isWatched(1L)).isTrue();
+        assertThat(hub.isWatched(2L)).isFalse();
+        assertThat(body(subscriber))
+                .containsSubsequence("event:comment-created\ndata:{\"id\":10}", "event:comment-deleted\ndata:{\"id\":10}")
+                .doesNotContain("\"id\":9", "\"id\":20");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 이후 이벤트만 다시 받고, 다른 프로세스의 ID 면 reset")
+    void resume_replaysMissedEvents() throws Exception {
+        // Given
+        MvcResult first = subscribe(1L, null);
+        hub.publish(1L, "comment-created", "{\"id\":10}");
+        hub.publish(1L, "comment-created", "{\"id\":11}");
+        await().atMost(Duration.ofSeconds(5)).until(() -> eventIds(first).size() == 2);
+        String firstEventId = eventIds(first).get(0);
+
+        // When
+        MvcResult resumed = subscribe(1L, firstEventId);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(body(resumed)).contains("data:{\"id\":11}").doesNotContain("data:{\"id\":10}"));
+        assertThat(eventIds(resumed)).containsExactly(eventIds(first).get(1));
+
+        // When: 재시작 전(다른 epoch) ID
+        hub.close(1L);
+        MvcResult stale = subscribe(1L, "0-1");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(body(stale)).contains("event:" + CommentStreamHub.RESET));
+    }
+
+    @Test
+    @DisplayName("놓친 이벤트가 보관 개수를 넘었으면 일부만 보내지 않고 reset")
+    void resume_beyondRetainedEvents_reset() throws Exception {
+        // Given: 보관 3개, 발행 5개 (첫 두 이벤트는 보관함에서 밀려남)
+        MvcResult first = subscribe(1L, null);
+        for (int i = 1; i <= 5; i++) {
+            hub.publish(1L, "comment-created", "{\"id\":" + i + "}");
+            int published = i;
+            await().atMost(Duration.ofSeconds(5)).until(() -> eventIds(first).size() == published);
+        }
+        List<String> ids = eventIds(first);
+
+        // When
+        MvcResult tooOld = subscribe(1L, ids.get(0));
+        await().atMost(Duration.ofSeconds(5)).until(() -> body(tooOld).contains("event:" + CommentStreamHub.RESET));
+        hub.close(1L);
+
+        // Then: reset 의 ID 는 마지막 이벤트 (다음 재연결은 그 이후부터)
+        assertThat(eventIds(tooOld)).containsExactly(ids.get(4));
+        assertThat(body(tooOld)).doesNotContain("data:{\"id\":");
+    }
+
+    @Test
+    @DisplayName("동시 구독자 수를 넘으면 구독 거부")
+    void subscribe_overLimit_rejected() {
+        // Given: 구독자 최대 2명
+        CommentStreamHub limited = new CommentStreamHub(3, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        limited.subscribe(1L, null);
+        limited.subscribe(2L, null);
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> limited.subscribe(3L, null))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("구독자가 너무 많습니다");
+            assertThat(limited.subscriberCount()).isEqualTo(2);
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    private MvcResult subscribe(Long postId, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/stream/{postId}", postId);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static String body(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString();
+    }
+
+    private static List<String> eventIds(MvcResult result) throws Exception {
+        Matcher matcher = EVENT_ID.matcher(body(result));
+        return matcher.results().map(match -> match.group(1)).toList();
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final CommentStreamHub hub;
+
+        StreamController(CommentStreamHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping("/stream/{postId}")
+        SseEmitter stream(@PathVariable Long postId,
+                          @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+            return hub.subscribe(postId, lastEventId);
+        }
+    }
+}
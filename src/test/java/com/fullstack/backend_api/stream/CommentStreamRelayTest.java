@@ -0,0 +1,124 @@
+package com.fullstack.backend_api.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullstack.backend_api.config.JpaConfig;
+import com.fullstack.backend_api.domain.Comment;
+import com.fullstack.backend_api.domain.Member;
+import com.fullstack.backend_api.domain.Post;
+import com.fullstack.backend_api.outbox.OutboxDispatcher;
+import com.fullstack.backend_api.outbox.OutboxPublisher;
+import com.fullstack.backend_api.repository.CommentRepository;
+import com.fullstack.backend_api.repository.OutboxEventRepository;
+import com.fullstack.backend_api.repository.PostRepository;
+import com.fullstack.backend_api.repository.RepositoryTestConfig;
+import com.fullstack.backend_api.repository.UserRepository;
+import com.fullstack.backend_api.service.ModerationService;
+import com.fullstack.backend_api.service.PostDetailCache;
+import com.fullstack.backend_api.storage.AttachmentStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 모더레이션 청크 트랜잭션이 커밋된 뒤 아웃박스 -> 릴레이 -> SSE 로 전달되므로 테스트 트랜잭션으로 감싸지 않고, 데이터는 @AfterEach 에서 정리
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, RepositoryTestConfig.class, OutboxPublisher.class, OutboxDispatcher.class,
+        CommentStreamHub.class, CommentStreamRelay.class, CommentStreamRelayTest.JsonConfig.class})
+@DisplayName("CommentStreamRelay 테스트 (모더레이션 일괄 삭제도 comment-deleted 이벤트로 전달)")
+class CommentStreamRelayTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private CommentStreamHub commentStreamHub;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("회원 콘텐츠 삭제로 지워진 댓글마다 해당 게시글 구독자에게 comment-deleted 전송")
+    void deleteContentByAuthor_emitsCommentDeletedFrames() throws Exception {
+        // Given: 독자 게시글에 스팸 댓글 2개 + 독자 댓글 1개, 그 게시글을 구독 중
+        Member spammer = userRepository.save(Member.builder().username("spammer").password("password").role("ROLE_USER").build());
+        Member reader = userRepository.save(Member.builder().username("reader").password("password").role("ROLE_USER").build());
+        Post readerPost = postRepository.save(Post.builder().title("일반 글").content("내용").author(reader).build());
+        List<Comment> spam = commentRepository.saveAll(List.of(
+                Comment.builder().content("스팸1").post(readerPost).author(spammer).build(),
+                Comment.builder().content("스팸2").post(readerPost).author(spammer).build()));
+        Comment kept = commentRepository.save(Comment.builder().content("독자 댓글").post(readerPost).author(reader).build());
+        MvcResult subscriber = subscribe(readerPost.getId());
+
+        ModerationService moderationService = new ModerationService(postRepository, commentRepository, userRepository,
+                mock(AttachmentStorage.class), new PostDetailCache(new ConcurrentMapCacheManager(PostDetailCache.CACHE_NAME)),
+                outboxPublisher, transactionManager, 1);
+
+        // When
+        moderationService.deleteContentByAuthor(spammer.getId(), List.of("ROLE_ADMIN"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(body(subscriber))
+                .contains("event:comment-deleted\ndata:{\"id\":" + spam.get(0).getId() + "}")
+                .contains("event:comment-deleted\ndata:{\"id\":" + spam.get(1).getId() + "}"));
+        assertThat(body(subscriber)).doesNotContain("data:{\"id\":" + kept.getId() + "}");
+    }
+
+    private MvcResult subscribe(Long postId) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CommentStreamHubTest.StreamController(commentStreamHub)).build();
+        return mockMvc.perform(get("/stream/{postId}", postId)).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static String body(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString();
+    }
+
+    @TestConfiguration
+    static class JsonConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}